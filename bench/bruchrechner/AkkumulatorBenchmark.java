@@ -0,0 +1,55 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Aufsummieren einer langen Reihe: verkettetes {@link Bruch#add} gegen {@link BruchAccumulator}.}
+ * Mit {@code -prof gc} zeigt {@code gc.alloc.rate.norm}, dass der Akkumulator pro Schritt nichts allokiert.
+ * Die Reihe 1/1 - 1/2 + 1/3 - ... bleibt durch Kürzen klein genug für den long-Pfad.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AkkumulatorBenchmark {
+    static final int ANZAHL = 20;
+
+    private Bruch[] reihe;
+    private final BruchAccumulator acc = new BruchAccumulator();
+
+    @Setup
+    public void setup() {
+        reihe = new Bruch[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) reihe[i] = Bruch.valueOf(i % 2 == 0 ? 1 : -1, i + 1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public Bruch verkettet() {
+        Bruch s = Bruch.of(0);
+        for (Bruch b : reihe) s = s.add(b);
+        return s;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public long akkumulator() {
+        acc.reset();
+        for (Bruch b : reihe) acc.addInPlace(b);
+        return acc.hashCode();
+    }
+}
@@ -0,0 +1,71 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Eine Zeile des Arbeitsblatts ändern: {@link BruchBaum} gegen Neuberechnung der ganzen Spalte.}
+ * Die Neuberechnung bildet Summe und Produkt aller Zeilen mit denselben begrenzten Teilergebnissen neu,
+ * der Baum aktualisiert nur den Weg zur Wurzel. Das Ziel ist ein Frame (16 ms) bei 100 000 Zeilen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArbeitsblattBenchmark {
+    @Param({"100000"})
+    public int zeilen;
+
+    @Param({"KLEIN", "GROSS"})
+    public Verteilung verteilung;
+
+    private Bruch[] werte;
+    private BruchBaum baum;
+    private int naechste;
+
+    @Setup
+    public void setup() {
+        werte = verteilung.brueche(zeilen);
+        baum = new BruchBaum(zeilen);
+        baum.setzeAlle(werte);
+    }
+
+    @Benchmark
+    public BruchBaum.Teil baumAendern() {
+        int i = naechste;
+        naechste = (naechste + 7919) % zeilen;
+        baum.set(i, werte[(i + 1) % zeilen]);
+        return baum.summe();
+    }
+
+    @Benchmark
+    public BruchBaum.Teil baumPraefix() {
+        naechste = (naechste + 7919) % zeilen;
+        return baum.praefixProdukt(naechste);
+    }
+
+    @Benchmark
+    public BruchBaum.Teil spalteNeu() {
+        BruchBaum.Teil summe = BruchBaum.Teil.NULL;
+        BruchBaum.Teil produkt = BruchBaum.Teil.EINS;
+        for (Bruch b : werte) {
+            BruchBaum.Teil t = BruchBaum.Teil.von(b);
+            summe = summe.plus(t);
+            produkt = produkt.mal(t);
+        }
+        return produkt.plus(summe);
+    }
+}
@@ -0,0 +1,108 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Heiße Pfade von {@link Bruch}: Konstruktor, gcd, Grundrechenarten, Parsen und Formatieren.}
+ * Jede Methode verarbeitet einen Durchlauf über {@link #ANZAHL} vorbereitete Werte, damit die
+ * Sprungvorhersage nicht auf einen einzelnen Wert eingeschwungen ist. Mit {@code -prof gc} wird
+ * zusätzlich die Allokationsrate pro Operation gemessen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BruchBenchmark {
+    static final int ANZAHL = 1024;
+
+    @Param({"KLEIN", "GROSS", "UEBERLAUF"})
+    public Verteilung verteilung;
+
+    private int[] paare;
+    private Bruch[] a;
+    private Bruch[] b;
+    private String[] texte;
+
+    @Setup
+    public void setup() {
+        paare = verteilung.paare(2 * ANZAHL);
+        a = new Bruch[ANZAHL];
+        b = new Bruch[ANZAHL];
+        texte = new String[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) {
+            a[i] = new Bruch(paare[4 * i], paare[4 * i + 1]);
+            b[i] = new Bruch(paare[4 * i + 2], paare[4 * i + 3]);
+            texte[i] = paare[4 * i] + "/" + paare[4 * i + 1];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void konstruktor(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(new Bruch(paare[4 * i], paare[4 * i + 1]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void gcd(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(Bruch.gcd(paare[4 * i], paare[4 * i + 1]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void add(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].add(b[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void sub(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].sub(b[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void mul(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].mul(b[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void div(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].div(b[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void parse(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(Bruch.parse(texte[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void toStringBench(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].toString());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void toMixedString(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].toMixedString());
+    }
+}
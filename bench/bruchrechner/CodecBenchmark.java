@@ -0,0 +1,99 @@
+package bruchrechner;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary {@link BruchCodec} gegen das Textformat von {@link Bruch#toString()} und {@link BruchParser}.}
+ * Geschrieben und gelesen wird jeweils eine ganze Spalte in bzw. aus einem Puffer. Die Größe je Wert
+ * beider Formate gibt {@link #setup()} einmal pro Lauf aus. {@code gemeinsam} ist eine Spalte aus Siebteln,
+ * bei der der Kodierer Läufe gleicher Nenner nutzt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    private static final int ANZAHL = 4096;
+
+    @Param({"KLEIN", "GROSS", "gemeinsam"})
+    public String werte;
+
+    private BruchSpalte spalte;
+    private final ByteBuffer text = ByteBuffer.allocate(32 * ANZAHL);
+    private final ByteBuffer binaer = ByteBuffer.allocate(20 * ANZAHL + 16);
+    private final BruchParser parser = new BruchParser();
+    private final long[] z = new long[ANZAHL];
+    private final long[] n = new long[ANZAHL];
+
+    @Setup
+    public void setup() {
+        if (werte.equals("gemeinsam")) {
+            Bruch[] b = new Bruch[ANZAHL];
+            for (int i = 0; i < ANZAHL; i++) b[i] = Bruch.valueOf(7 * (i % 1000) + 1 + i % 6, 7);
+            spalte = BruchSpalte.of(b);
+        } else {
+            spalte = BruchSpalte.of(Verteilung.valueOf(werte).brueche(ANZAHL));
+        }
+        textSchreiben();
+        binaerSchreiben();
+        System.out.printf(Locale.ROOT, "%n%s: Text %.2f Byte je Wert, binär %.2f Byte je Wert%n",
+                werte, text.position() / (double) ANZAHL, binaer.position() / (double) ANZAHL);
+        text.flip();
+        binaer.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public int textSchreiben() {
+        text.clear();
+        for (int i = 0; i < ANZAHL; i++) spalte.get(i).formatTo(text).put((byte) '\n');
+        return text.position();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public int binaerSchreiben() {
+        binaer.clear();
+        BruchCodec.schreibe(binaer, spalte);
+        return binaer.position();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public BruchSpalte textLesen() {
+        int start = 0;
+        int ende = text.limit();
+        for (int i = 0; start < ende; i++) {
+            int nl = start;
+            while (text.get(nl) != '\n') nl++;
+            parser.parse(text, start, nl);
+            z[i] = parser.zaehler();
+            n[i] = parser.nenner();
+            start = nl + 1;
+        }
+        return BruchSpalte.ausArrays(z, n);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public BruchSpalte binaerLesen() {
+        return BruchCodec.liesSpalte(binaer.duplicate());
+    }
+}
@@ -0,0 +1,101 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Ausgabe von Brüchen: String-Erzeugung gegen {@code formatTo} und {@link BruchSchreiber}.}
+ * Jede Operation schreibt einen Wert in normaler und in gemischter Schreibweise; mit {@code -prof gc}
+ * zeigt sich, dass nur die String-Variante pro Wert allokiert.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+    private static final int ANZAHL = 1024;
+
+    @Param({"KLEIN", "GROSS"})
+    public Verteilung verteilung;
+
+    private Bruch[] werte;
+    private BruchSpalte spalte;
+    private final StringBuilder sb = new StringBuilder(64 * ANZAHL);
+    private final ByteBuffer puffer = ByteBuffer.allocate(64 * ANZAHL);
+    private BruchSchreiber schreiber;
+
+    @Setup
+    public void setup() {
+        werte = verteilung.brueche(ANZAHL);
+        spalte = BruchSpalte.of(werte);
+        schreiber = new BruchSchreiber(new Verwerfer());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void strings(Blackhole bh) {
+        for (Bruch b : werte) {
+            bh.consume(b.toString());
+            bh.consume(b.toMixedString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public int stringBuilder() {
+        sb.setLength(0);
+        for (Bruch b : werte) b.formatMixedTo(b.formatTo(sb).append('\t')).append('\n');
+        return sb.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public int byteBuffer() {
+        puffer.clear();
+        for (Bruch b : werte) b.formatMixedTo(b.formatTo(puffer).put((byte) '\t')).put((byte) '\n');
+        return puffer.position();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void schreiberSpalte() throws IOException {
+        schreiber.schreibe(spalte).schreibeGemischt(spalte).flush();
+    }
+
+    /** Kanal, der alles annimmt und verwirft. */
+    private static final class Verwerfer implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package bruchrechner;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary ggT zweier Zufallszahlen mit {@code bits} Bit: binärer Algorithmus in {@link Bruch#gcd(long, long)}
+ * gegen den bisherigen euklidischen.}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GcdBenchmark {
+    @Param({"7", "31", "62"})
+    public int bits;
+
+    private long[] a;
+    private long[] b;
+
+    @Setup
+    public void setup() {
+        SplittableRandom r = new SplittableRandom(42);
+        a = new long[1024];
+        b = new long[1024];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = r.nextLong(1, 1L << bits);
+            b[i] = r.nextLong(1, 1L << bits);
+        }
+    }
+
+    @Benchmark
+    public long euklid() {
+        long s = 0;
+        for (int i = 0; i < a.length; i++) s += euklid(a[i], b[i]);
+        return s;
+    }
+
+    @Benchmark
+    public long stein() {
+        long s = 0;
+        for (int i = 0; i < a.length; i++) s += Bruch.gcd(a[i], b[i]);
+        return s;
+    }
+
+    /** Der frühere {@code Bruch.gcd}: Euklid mit Modulo. */
+    private static long euklid(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        int schritte = 0;
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+            schritte++;
+        }
+        BruchMetriken.gcd(schritte);
+        return Math.max(1, a);
+    }
+}
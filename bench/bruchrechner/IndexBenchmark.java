@@ -0,0 +1,59 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Bereichs- und Rangabfragen: linearer Durchlauf gegen {@link BruchIndex}.}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+    @Param({"1000", "1000000"})
+    public int anzahl;
+
+    private Bruch[] werte;
+    private BruchIndex index;
+    private final Bruch von = Bruch.valueOf(1, 3);
+    private final Bruch bis = Bruch.valueOf(2, 5);
+
+    @Setup
+    public void setup() {
+        werte = Verteilung.KLEIN.brueche(anzahl);
+        index = new BruchIndex(werte);
+    }
+
+    @Benchmark
+    public int linearBereich() {
+        int n = 0;
+        for (Bruch b : werte) {
+            if (b.compareTo(von) >= 0 && b.compareTo(bis) <= 0) n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int indexBereich() {
+        return index.anzahlImBereich(von, bis);
+    }
+
+    @Benchmark
+    public Bruch indexNaechster() {
+        return index.naechster(Bruch.valueOf(7, 19));
+    }
+}
@@ -0,0 +1,89 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Rechenkette aus {@code laenge} zufälligen Grundrechenarten: sofort kürzender {@link Bruch} gegen
+ * {@link UngekuerzterBruch}, der nur an der Schranke und am Ende kürzt.}
+ * KLEIN sind Brüche mit einstelligen Zählern und Nennern bis 12, deren Ergebnis klein bleibt; MITTEL hat
+ * fünfstellige Zähler und Nenner, GROSS Zähler bis 90 Bit und Nenner bis 63 Bit, sodass das Ergebnis wächst.
+ * Beide Varianten liefern denselben gekürzten Bruch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KettenBenchmark {
+    public enum Werte { KLEIN, MITTEL, GROSS }
+
+    @Param({"50", "200"})
+    public int laenge;
+
+    @Param({"KLEIN", "MITTEL", "GROSS"})
+    public Werte werte;
+
+    private Bruch[] b;
+    private int[] op;
+
+    @Setup
+    public void setup() {
+        SplittableRandom r = new SplittableRandom(1);
+        b = new Bruch[laenge];
+        op = new int[laenge];
+        for (int i = 0; i < laenge; i++) {
+            b[i] = switch (werte) {
+                case KLEIN -> new Bruch(r.nextInt(-9, 10), r.nextInt(1, 13));
+                case MITTEL -> new Bruch(r.nextInt(-100000, 100000), r.nextInt(1, 100000));
+                case GROSS -> Bruch.of(new BigInteger(r.nextInt(1, 90), new Random(r.nextLong())).subtract(BigInteger.TEN),
+                        BigInteger.valueOf(r.nextLong(1, Long.MAX_VALUE)));
+            };
+            op[i] = r.nextInt(4);
+            if (op[i] == 3 && b[i].bigZaehler().signum() == 0) op[i] = 0;
+        }
+    }
+
+    @Benchmark
+    public Bruch sofort() {
+        Bruch e = b[0];
+        for (int i = 1; i < laenge; i++) {
+            e = switch (op[i]) {
+                case 0 -> e.add(b[i]);
+                case 1 -> e.sub(b[i]);
+                case 2 -> e.mul(b[i]);
+                default -> e.div(b[i]);
+            };
+        }
+        return e;
+    }
+
+    @Benchmark
+    public Bruch verzoegert() {
+        UngekuerzterBruch e = b[0].ungekuerzt();
+        for (int i = 1; i < laenge; i++) {
+            e = switch (op[i]) {
+                case 0 -> e.add(b[i]);
+                case 1 -> e.sub(b[i]);
+                case 2 -> e.mul(b[i]);
+                default -> e.div(b[i]);
+            };
+        }
+        return e.toBruch();
+    }
+}
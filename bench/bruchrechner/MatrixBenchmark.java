@@ -0,0 +1,95 @@
+package bruchrechner;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Lineares Gleichungssystem n × n: Gauß-Elimination mit {@link Bruch} gegen {@link BruchMatrix}.}
+ * Einträge sind kleine Brüche mit Zählern -9..9 und Nennern 1..4. Die naive Variante kürzt nach jeder
+ * Operation und braucht schon ab n = 200 Minuten; zum Vergleich großer Systeme daher
+ * {@code -p n=50,100} für {@code naiv} bzw. nur die BruchMatrix-Methoden mit {@code -p n=200,500}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class MatrixBenchmark {
+    @Param({"50", "100", "200", "500"})
+    public int n;
+
+    private Bruch[][] a;
+    private Bruch[] b;
+    private BruchMatrix matrix;
+
+    @Setup
+    public void setup() {
+        SplittableRandom r = new SplittableRandom(42);
+        a = new Bruch[n][n];
+        b = new Bruch[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = new Bruch(r.nextInt(-9, 10), 1);
+            for (int j = 0; j < n; j++) a[i][j] = new Bruch(r.nextInt(-9, 10), r.nextInt(1, 5));
+        }
+        matrix = BruchMatrix.of(a);
+    }
+
+    @Benchmark
+    public Bruch[] naiv() {
+        return loeseNaiv(a, b);
+    }
+
+    @Benchmark
+    public Bruch[] bareissLoese() {
+        return matrix.loese(b);
+    }
+
+    @Benchmark
+    public Bruch bareissDeterminante() {
+        return matrix.determinante();
+    }
+
+    /** Gauß mit Zeilentausch bei Pivot 0 und Rückwärtseinsetzen, alles mit {@link Bruch}-Operationen. */
+    static Bruch[] loeseNaiv(Bruch[][] a0, Bruch[] b0) {
+        int n = b0.length;
+        Bruch null0 = Bruch.valueOf(0, 1);
+        Bruch[][] a = new Bruch[n][];
+        for (int i = 0; i < n; i++) {
+            a[i] = Arrays.copyOf(a0[i], n + 1);
+            a[i][n] = b0[i];
+        }
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            while (a[p][k].equals(null0)) p++;
+            Bruch[] t = a[p];
+            a[p] = a[k];
+            a[k] = t;
+            for (int i = k + 1; i < n; i++) {
+                if (a[i][k].equals(null0)) continue;
+                Bruch f = a[i][k].div(a[k][k]);
+                for (int j = k; j <= n; j++) a[i][j] = a[i][j].sub(f.mul(a[k][j]));
+            }
+        }
+        Bruch[] x = new Bruch[n];
+        for (int i = n - 1; i >= 0; i--) {
+            Bruch s = a[i][n];
+            for (int j = i + 1; j < n; j++) s = s.sub(a[i][j].mul(x[j]));
+            x[i] = s.div(a[i][i]);
+        }
+        return x;
+    }
+}
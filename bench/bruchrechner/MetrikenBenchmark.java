@@ -0,0 +1,100 @@
+package bruchrechner;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Kosten der {@link BruchMetriken}: dieselben Operationen in einer JVM mit und einer ohne Messpunkte.}
+ * Die {@code aus}-Varianten sollen sich nicht von {@link BruchBenchmark} unterscheiden; die {@code an}-Varianten
+ * zeigen den Preis von Zeitmessung und Zählern, einschließlich der Pfadzähler von {@link RechenStatistik}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetrikenBenchmark {
+    private static final int ANZAHL = 1024;
+    private static final String AUS = "-Dbruchrechner.metriken=false";
+    private static final String AN = "-Dbruchrechner.metriken=true";
+
+    private Bruch[] a;
+    private Bruch[] b;
+    private String[] texte;
+
+    @Setup
+    public void setup() {
+        Bruch[] alle = Verteilung.KLEIN.brueche(2 * ANZAHL);
+        a = Arrays.copyOfRange(alle, 0, ANZAHL);
+        b = Arrays.copyOfRange(alle, ANZAHL, 2 * ANZAHL);
+        texte = new String[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) texte[i] = a[i].toString();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AUS)
+    @OperationsPerInvocation(ANZAHL)
+    public void addAus(Blackhole bh) {
+        add(bh);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AN)
+    @OperationsPerInvocation(ANZAHL)
+    public void addAn(Blackhole bh) {
+        add(bh);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AUS)
+    @OperationsPerInvocation(ANZAHL)
+    public void mulAus(Blackhole bh) {
+        mul(bh);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AN)
+    @OperationsPerInvocation(ANZAHL)
+    public void mulAn(Blackhole bh) {
+        mul(bh);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AUS)
+    @OperationsPerInvocation(ANZAHL)
+    public void parseAus(Blackhole bh) {
+        parse(bh);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = AN)
+    @OperationsPerInvocation(ANZAHL)
+    public void parseAn(Blackhole bh) {
+        parse(bh);
+    }
+
+    private void add(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].add(b[i]));
+    }
+
+    private void mul(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(a[i].mul(b[i]));
+    }
+
+    private void parse(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) bh.consume(Bruch.parse(texte[i]));
+    }
+}
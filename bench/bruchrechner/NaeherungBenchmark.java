@@ -0,0 +1,77 @@
+package bruchrechner;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Durchsatz von {@link Bruch#naeherung}, {@link BruchSpalte#ausDoubles} und {@link Bruch#ausDezimal}.}
+ * Messwerte sind normalverteilt um 0 mit Standardabweichung 100. Die Genauigkeit der Näherung
+ * (größter relativer Fehler je Schranke) gibt {@link #setup()} einmal pro Lauf aus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NaeherungBenchmark {
+    private static final int ANZAHL = 1024;
+
+    @Param({"100", "1000000"})
+    public int maxNenner;
+
+    private double[] werte;
+    private String[] dezimal;
+
+    @Setup
+    public void setup() {
+        SplittableRandom r = new SplittableRandom(42);
+        werte = new double[ANZAHL];
+        dezimal = new String[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) {
+            werte[i] = r.nextDouble() * r.nextDouble(-100, 100) * 3;
+            dezimal[i] = String.format(Locale.ROOT, "%.4f", werte[i]);
+        }
+        BruchSpalte s = BruchSpalte.ausDoubles(werte, maxNenner);
+        double maxFehler = 0;
+        for (int i = 0; i < ANZAHL; i++) {
+            Bruch b = s.get(i);
+            double fehler = Math.abs((double) b.getZaehler() / b.getNenner() - werte[i]) / Math.abs(werte[i]);
+            maxFehler = Math.max(maxFehler, fehler);
+        }
+        System.out.printf(Locale.ROOT, "%nmaxNenner=%d: größter relativer Fehler %.3e%n", maxNenner, maxFehler);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void naeherung(Blackhole bh) {
+        for (double x : werte) bh.consume(Bruch.naeherung(x, maxNenner));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public BruchSpalte ausDoubles() {
+        return BruchSpalte.ausDoubles(werte, maxNenner);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void ausDezimal(Blackhole bh) {
+        for (String s : dezimal) bh.consume(Bruch.ausDezimal(s));
+    }
+}
@@ -0,0 +1,82 @@
+package bruchrechner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Parsen von {@code z/n}-Tokens: früheres trim/split/parseInt gegen {@link BruchParser}.}
+ * Der Parser liest einmal aus Strings und einmal direkt aus einem direkten {@link ByteBuffer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    static final int ANZAHL = 1024;
+
+    private String[] texte;
+    private ByteBuffer puffer;
+    private int[] grenzen;
+    private final BruchParser parser = new BruchParser();
+
+    @Setup
+    public void setup() {
+        int[] p = Verteilung.GROSS.paare(ANZAHL);
+        texte = new String[ANZAHL];
+        StringBuilder sb = new StringBuilder();
+        grenzen = new int[ANZAHL + 1];
+        for (int i = 0; i < ANZAHL; i++) {
+            texte[i] = p[2 * i] + "/" + p[2 * i + 1];
+            sb.append(texte[i]).append('\n');
+            grenzen[i + 1] = sb.length();
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        puffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void splitParseInt(Blackhole bh) {
+        for (String t : texte) {
+            String[] teile = t.trim().split("/");
+            bh.consume(Integer.parseInt(teile[0].trim()));
+            bh.consume(Integer.parseInt(teile[1].trim()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void parserString(Blackhole bh) {
+        for (String t : texte) {
+            parser.parse(t, 0, t.length());
+            bh.consume(parser.zaehler());
+            bh.consume(parser.nenner());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public void parserByteBuffer(Blackhole bh) {
+        for (int i = 0; i < ANZAHL; i++) {
+            parser.parse(puffer, grenzen[i], grenzen[i + 1] - 1);
+            bh.consume(parser.zaehler());
+            bh.consume(parser.nenner());
+        }
+    }
+}
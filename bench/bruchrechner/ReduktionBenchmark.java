@@ -0,0 +1,67 @@
+package bruchrechner;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Summe von 10^7 Alltagsbrüchen: Verkettung mit {@link Bruch#add} gegen {@link BruchReduktion}.}
+ * Die sequentielle Verkettung braucht pro Aufruf einige Sekunden, daher Einzelmessungen statt Durchsatz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ReduktionBenchmark {
+    @Param({"10000000"})
+    public int anzahl;
+
+    private Bruch[] werte;
+
+    @Setup
+    public void setup() {
+        werte = Verteilung.KLEIN.brueche(anzahl);
+    }
+
+    @Benchmark
+    public Bruch sequentiell() {
+        Bruch s = Bruch.valueOf(0, 1);
+        for (Bruch b : werte) s = s.add(b);
+        return s;
+    }
+
+    @Benchmark
+    public Bruch akkumulator() {
+        BruchAccumulator acc = new BruchAccumulator();
+        for (Bruch b : werte) acc.addInPlace(b);
+        return acc.toBruch();
+    }
+
+    @Benchmark
+    public Bruch baum() {
+        return BruchReduktion.summe(werte);
+    }
+
+    @Benchmark
+    public Bruch streamParallel() {
+        return BruchReduktion.summe(Arrays.stream(werte).parallel());
+    }
+
+    @Benchmark
+    public Bruch mittel() {
+        return BruchReduktion.mittel(werte);
+    }
+}
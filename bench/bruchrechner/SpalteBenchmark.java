@@ -0,0 +1,69 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@summary Elementweise Spaltenoperationen: {@code Bruch[]} gegen {@link BruchSpalte}.}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpalteBenchmark {
+    static final int ANZAHL = 1 << 16;
+
+    private Bruch[] a;
+    private Bruch[] b;
+    private BruchSpalte sa;
+    private BruchSpalte sb;
+
+    @Setup
+    public void setup() {
+        a = Verteilung.KLEIN.brueche(ANZAHL);
+        b = Verteilung.GROSS.brueche(ANZAHL);
+        sa = BruchSpalte.of(a);
+        sb = BruchSpalte.of(b);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public Bruch[] objekteAdd() {
+        Bruch[] r = new Bruch[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) r[i] = a[i].add(b[i]);
+        return r;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public BruchSpalte spalteAdd() {
+        return sa.add(sb);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public Bruch[] objekteMul() {
+        Bruch[] r = new Bruch[ANZAHL];
+        for (int i = 0; i < ANZAHL; i++) r[i] = a[i].mul(b[i]);
+        return r;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL)
+    public BruchSpalte spalteMul() {
+        return sa.mul(sb);
+    }
+}
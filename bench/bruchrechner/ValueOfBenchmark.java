@@ -0,0 +1,49 @@
+package bruchrechner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@summary Allokationsrate von Konstruktor gegen {@link Bruch#valueOf(int, int)} für häufige kleine Werte.}
+ * Mit {@code -prof gc} fällt {@code gc.alloc.rate.norm} für valueOf auf 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueOfBenchmark {
+    private static final int[] WERTE = {0, 1, 1, 1, -1, 1, 1, 2, 3, 4, 2, 4, -3, 8, 5, 16};
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void konstruktor(Blackhole bh) {
+        for (int i = 0; i < WERTE.length; i += 2) bh.consume(new Bruch(WERTE[i], WERTE[i + 1]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void valueOf(Blackhole bh) {
+        for (int i = 0; i < WERTE.length; i += 2) bh.consume(Bruch.valueOf(WERTE[i], WERTE[i + 1]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void arithmetik(Blackhole bh) {
+        Bruch halb = Bruch.valueOf(1, 2);
+        Bruch viertel = Bruch.valueOf(1, 4);
+        for (int i = 0; i < 8; i++) bh.consume(halb.add(viertel));
+    }
+}
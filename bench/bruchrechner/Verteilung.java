@@ -0,0 +1,56 @@
+package bruchrechner;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@summary Eingabeverteilungen für die Benchmarks, jeweils reproduzierbar mit festem Seed.}
+ * KLEIN: Alltagswerte wie in der Oberfläche. GROSS: große, meist teilerfremde Werte.
+ * UEBERLAUF: Werte nahe {@code Integer.MAX_VALUE}, deren Ergebnisse nicht mehr in int passen.
+ */
+public enum Verteilung {
+    KLEIN, GROSS, UEBERLAUF;
+
+    /**
+     * {@summary Erzeugt {@code anzahl} Paare (Zähler, Nenner) mit Nenner ungleich 0.}
+     *
+     * @param anzahl Anzahl der Paare
+     * @return Array {@code [z0, n0, z1, n1, ...]}
+     */
+    public int[] paare(int anzahl) {
+        SplittableRandom r = new SplittableRandom(42);
+        int[] p = new int[2 * anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            int z;
+            int n;
+            switch (this) {
+                case KLEIN:
+                    z = r.nextInt(-100, 101);
+                    n = r.nextInt(1, 101);
+                    break;
+                case GROSS:
+                    z = r.nextInt(1_000_000, 1_000_000_000) * (r.nextBoolean() ? 1 : -1);
+                    n = r.nextInt(1_000_000, 1_000_000_000) | 1;
+                    break;
+                default:
+                    z = Integer.MAX_VALUE - r.nextInt(1000);
+                    n = Integer.MAX_VALUE - 1 - 2 * r.nextInt(1000);
+            }
+            p[2 * i] = z;
+            p[2 * i + 1] = n;
+        }
+        return p;
+    }
+
+    /**
+     * {@summary Erzeugt {@code anzahl} Brüche aus {@link #paare(int)}.}
+     *
+     * @param anzahl Anzahl der Brüche
+     * @return Brüche
+     */
+    public Bruch[] brueche(int anzahl) {
+        int[] p = paare(anzahl);
+        Bruch[] b = new Bruch[anzahl];
+        for (int i = 0; i < anzahl; i++) b[i] = new Bruch(p[2 * i], p[2 * i + 1]);
+        return b;
+    }
+}
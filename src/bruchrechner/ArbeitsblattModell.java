@@ -0,0 +1,167 @@
+package bruchrechner;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@summary Tabellenmodell des Arbeitsblatts: eine Zeile je Bruch mit laufender Summe und laufendem Produkt.}
+ * Die Werte liegen in einem {@link BruchBaum}; eine geänderte Zeile kostet O(log n) Knotenoperationen statt
+ * einer Neuberechnung der ganzen Spalte. Präfixwerte werden erst in {@link #getValueAt(int, int)} gebildet,
+ * die JTable fragt also nur sichtbare Zeilen ab. Da sie von oben nach unten zeichnet, wird das zuletzt
+ * gebildete Präfix gemerkt und für die Folgezeile um einen Wert erweitert. Nur auf dem EDT verwenden.
+ */
+final class ArbeitsblattModell extends AbstractTableModel {
+    static final int SPALTE_ZEILE = 0;
+    static final int SPALTE_WERT = 1;
+    static final int SPALTE_SUMME = 2;
+    static final int SPALTE_PRODUKT = 3;
+
+    private static final String[] NAMEN = {"#", "Wert", "Summe bis hier", "Produkt bis hier"};
+
+    private final BruchBaum baum = new BruchBaum(1024);
+    private final Consumer<String> fehlerAnzeige;
+
+    // zuletzt gebildetes Präfix, -1 wenn ungültig
+    private int praefixZeile = -1;
+    private BruchBaum.Teil praefixSumme;
+    private BruchBaum.Teil praefixProdukt;
+    private long letzteAenderungNanos;
+
+    /**
+     * {@summary Erzeugt ein leeres Arbeitsblatt.}
+     *
+     * @param fehlerAnzeige erhält den Fehlertext einer abgelehnten Eingabe bzw. "" nach einer gültigen
+     */
+    ArbeitsblattModell(Consumer<String> fehlerAnzeige) {
+        this.fehlerAnzeige = fehlerAnzeige;
+    }
+
+    /**
+     * {@summary Hängt Werte an; viele auf einmal werden in O(n) statt einzeln eingefügt.}
+     */
+    void hinzufuegen(List<Bruch> werte) {
+        if (werte.isEmpty()) return;
+        long start = System.nanoTime();
+        int vorher = baum.groesse();
+        if (werte.size() > vorher) {
+            Bruch[] alle = new Bruch[vorher + werte.size()];
+            for (int i = 0; i < vorher; i++) alle[i] = baum.get(i);
+            for (int i = 0; i < werte.size(); i++) alle[vorher + i] = werte.get(i);
+            baum.setzeAlle(alle);
+        } else {
+            for (Bruch b : werte) baum.hinzufuegen(b);
+        }
+        geaendert(start, vorher);
+        fireTableRowsInserted(vorher, baum.groesse() - 1);
+    }
+
+    /**
+     * {@summary Entfernt die letzte Zeile, falls vorhanden.}
+     */
+    void entferneLetzte() {
+        if (baum.groesse() == 0) return;
+        long start = System.nanoTime();
+        baum.entferneLetzten();
+        geaendert(start, baum.groesse());
+        fireTableRowsDeleted(baum.groesse(), baum.groesse());
+    }
+
+    /**
+     * {@summary Entfernt alle Zeilen.}
+     */
+    void leeren() {
+        int vorher = baum.groesse();
+        if (vorher == 0) return;
+        long start = System.nanoTime();
+        baum.setzeAlle(new Bruch[0]);
+        geaendert(start, 0);
+        fireTableRowsDeleted(0, vorher - 1);
+    }
+
+    /** @return Summe aller Zeilen */
+    BruchBaum.Teil summe() {
+        return baum.summe();
+    }
+
+    /** @return Produkt aller Zeilen */
+    BruchBaum.Teil produkt() {
+        return baum.produkt();
+    }
+
+    /** @return Dauer der letzten Änderung am Baum in Nanosekunden */
+    long letzteAenderungNanos() {
+        return letzteAenderungNanos;
+    }
+
+    @Override
+    public int getRowCount() {
+        return baum.groesse();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return NAMEN.length;
+    }
+
+    @Override
+    public String getColumnName(int spalte) {
+        return NAMEN[spalte];
+    }
+
+    @Override
+    public boolean isCellEditable(int zeile, int spalte) {
+        return spalte == SPALTE_WERT;
+    }
+
+    @Override
+    public Object getValueAt(int zeile, int spalte) {
+        switch (spalte) {
+            case SPALTE_ZEILE: return zeile + 1;
+            case SPALTE_WERT: return baum.get(zeile).toString();
+            case SPALTE_SUMME: return praefix(zeile).praefixSumme.toString();
+            default: return praefix(zeile).praefixProdukt.toString();
+        }
+    }
+
+    /**
+     * {@summary Übernimmt einen bearbeiteten Wert; ungültige Eingaben lassen die Zeile unverändert.}
+     */
+    @Override
+    public void setValueAt(Object wert, int zeile, int spalte) {
+        if (spalte != SPALTE_WERT) return;
+        Bruch b;
+        try {
+            b = Bruch.parse(String.valueOf(wert).trim());
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            fehlerAnzeige.accept(Rechnung.fehlertext(ex));
+            return;
+        }
+        fehlerAnzeige.accept("");
+        if (b.equals(baum.get(zeile))) return;
+        long start = System.nanoTime();
+        baum.set(zeile, b);
+        geaendert(start, zeile);
+        // Ab dieser Zeile ändern sich alle Präfixe; die JTable zeichnet davon nur die sichtbaren neu.
+        fireTableRowsUpdated(zeile, baum.groesse() - 1);
+    }
+
+    private void geaendert(long start, int abZeile) {
+        letzteAenderungNanos = System.nanoTime() - start;
+        if (praefixZeile >= abZeile) praefixZeile = -1;
+    }
+
+    private ArbeitsblattModell praefix(int zeile) {
+        if (zeile == praefixZeile) return this;
+        if (praefixZeile >= 0 && zeile == praefixZeile + 1) {
+            BruchBaum.Teil wert = BruchBaum.Teil.von(baum.get(zeile));
+            praefixSumme = praefixSumme.plus(wert);
+            praefixProdukt = praefixProdukt.mal(wert);
+        } else {
+            praefixSumme = baum.praefixSumme(zeile);
+            praefixProdukt = baum.praefixProdukt(zeile);
+        }
+        praefixZeile = zeile;
+        return this;
+    }
+}
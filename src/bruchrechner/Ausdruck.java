@@ -0,0 +1,280 @@
+package bruchrechner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@summary Übersetzter Rechenausdruck über Brüchen, der beliebig oft mit anderen Variablenwerten ausgewertet wird.}
+ * Grammatik (von schwach nach stark bindend):
+ * <pre>
+ * ausdruck := term (('+' | '-') term)*
+ * term     := unaer (('×' | '÷' | '*' | ':') unaer)*
+ * unaer    := '-' unaer | bruch
+ * bruch    := primaer ('/' primaer)*
+ * primaer  := ganzzahl | variable | '(' ausdruck ')'
+ * </pre>
+ * Der Bruchstrich {@code /} bindet stärker als {@code ×} und {@code ÷}, sodass {@code (1/2 + x) ÷ 3/4}
+ * durch {@code 3/4} teilt. Übersetzt wird einmal in ein kompaktes Befehls-Array für eine Stack-Maschine;
+ * Literale wie {@code 3/4} werden dabei schon zu Konstanten zusammengefasst. Gerechnet wird mit
+ * {@link Bruch}, Fehler und Meldungen entsprechen daher {@link Bruch#div} und dem Bruch-Konstruktor: Ein
+ * Literal wie {@code 1/0} meldet schon beim Übersetzen {@code "Nenner darf nicht 0 sein."}, eine Division
+ * wie {@code x/0} oder {@code 1 ÷ 0} beim Auswerten {@code "Division durch 0"}.
+ * <p>
+ * Instanzen sind unveränderlich und threadsicher; {@link #kompiliereGecacht(String)} vermeidet
+ * erneutes Parsen häufig wiederholter Ausdrücke.
+ */
+public final class Ausdruck {
+    private static final int KONST = 0;
+    private static final int VAR = 1;
+    private static final int ADD = 2;
+    private static final int SUB = 3;
+    private static final int MUL = 4;
+    private static final int DIV = 5;
+    private static final int NEG = 6;
+
+    private static final LruCache<String, Ausdruck> CACHE = new LruCache<>(256);
+
+    private final String quelle;
+    private final int[] code;         // Opcode und bei KONST/VAR der Index, je Befehl ein Eintrag
+    private final Bruch[] konstanten;
+    private final String[] variablen; // Slot-Reihenfolge = erstes Auftreten
+    private final int maxStack;
+
+    private Ausdruck(String quelle, int[] code, Bruch[] konstanten, String[] variablen, int maxStack) {
+        this.quelle = quelle;
+        this.code = code;
+        this.konstanten = konstanten;
+        this.variablen = variablen;
+        this.maxStack = maxStack;
+    }
+
+    /**
+     * {@summary Parst und übersetzt einen Ausdruck.}
+     *
+     * @param quelle Ausdruck, z. B. {@code "(1/2 + x) ÷ 3/4"}
+     * @return übersetzter Ausdruck
+     * @throws IllegalArgumentException bei Syntaxfehlern oder Nenner 0 in einem Literal wie {@code 1/0}
+     * @throws NumberFormatException bei Ganzzahlen außerhalb des int-Bereichs
+     */
+    public static Ausdruck kompiliere(String quelle) {
+        if (quelle == null) throw new IllegalArgumentException("Eingabe fehlt");
+        return new Uebersetzer(quelle).uebersetze();
+    }
+
+    /**
+     * {@summary Wie {@link #kompiliere(String)}, aber über einen LRU-Cache nach Quelltext.}
+     *
+     * @param quelle Ausdruck
+     * @return übersetzter, eventuell geteilter Ausdruck
+     */
+    public static Ausdruck kompiliereGecacht(String quelle) {
+        if (quelle == null) throw new IllegalArgumentException("Eingabe fehlt");
+        return CACHE.get(quelle, Ausdruck::kompiliere);
+    }
+
+    /** @return Variablennamen in Slot-Reihenfolge für {@link #auswerten(Bruch...)} */
+    public String[] variablen() {
+        return variablen.clone();
+    }
+
+    /**
+     * {@summary Wertet den Ausdruck mit Variablenwerten in Slot-Reihenfolge aus.}
+     *
+     * @param werte ein Wert je Eintrag in {@link #variablen()}
+     * @return Ergebnis
+     * @throws IllegalArgumentException wenn Werte fehlen
+     * @throws ArithmeticException bei Division durch 0
+     */
+    public Bruch auswerten(Bruch... werte) {
+        if (werte.length < variablen.length) {
+            throw new IllegalArgumentException("Variable " + variablen[werte.length] + " nicht belegt");
+        }
+        Bruch[] stack = new Bruch[maxStack];
+        int sp = 0;
+        for (int pc = 0; pc < code.length; pc++) {
+            int befehl = code[pc];
+            switch (befehl & 0xFF) {
+                case KONST: stack[sp++] = konstanten[befehl >>> 8]; break;
+                case VAR: {
+                    Bruch v = werte[befehl >>> 8];
+                    if (v == null) throw new IllegalArgumentException("Variable " + variablen[befehl >>> 8] + " nicht belegt");
+                    stack[sp++] = v;
+                    break;
+                }
+                case ADD: sp--; stack[sp - 1] = stack[sp - 1].add(stack[sp]); break;
+                case SUB: sp--; stack[sp - 1] = stack[sp - 1].sub(stack[sp]); break;
+                case MUL: sp--; stack[sp - 1] = stack[sp - 1].mul(stack[sp]); break;
+                case DIV: sp--; stack[sp - 1] = stack[sp - 1].div(stack[sp]); break;
+                case NEG: stack[sp - 1] = Bruch.of(0).sub(stack[sp - 1]); break;
+                default: throw new IllegalStateException("Unbekannter Befehl: " + befehl);
+            }
+        }
+        return stack[0];
+    }
+
+    /**
+     * {@summary Wertet den Ausdruck mit benannten Variablenwerten aus.}
+     *
+     * @param belegung Wert je Variablenname
+     * @return Ergebnis
+     * @throws IllegalArgumentException wenn eine Variable nicht belegt ist
+     * @throws ArithmeticException bei Division durch 0
+     */
+    public Bruch auswerten(Map<String, Bruch> belegung) {
+        Bruch[] werte = new Bruch[variablen.length];
+        for (int i = 0; i < werte.length; i++) werte[i] = belegung.get(variablen[i]);
+        return auswerten(werte);
+    }
+
+    @Override
+    public String toString() {
+        return quelle;
+    }
+
+    /**
+     * {@summary Rekursiver Abstieg über den Quelltext, erzeugt direkt Befehle in Postfix-Reihenfolge.}
+     */
+    private static final class Uebersetzer {
+        private final String s;
+        private int pos;
+        private int[] code = new int[16];
+        private int laenge;
+        private int stack;
+        private int maxStack;
+        private final List<Bruch> konstanten = new ArrayList<>();
+        private final List<String> variablen = new ArrayList<>();
+
+        Uebersetzer(String s) {
+            this.s = s;
+        }
+
+        Ausdruck uebersetze() {
+            leerraum();
+            if (pos == s.length()) throw new IllegalArgumentException("Eingabe fehlt");
+            ausdruck();
+            leerraum();
+            if (pos < s.length()) throw unerwartet();
+            return new Ausdruck(s, Arrays.copyOf(code, laenge), konstanten.toArray(new Bruch[0]),
+                    variablen.toArray(new String[0]), maxStack);
+        }
+
+        private void ausdruck() {
+            term();
+            while (true) {
+                char c = naechstes();
+                if (c == '+') { pos++; term(); befehl(ADD); }
+                else if (c == '-') { pos++; term(); befehl(SUB); }
+                else return;
+            }
+        }
+
+        private void term() {
+            unaer();
+            while (true) {
+                char c = naechstes();
+                if (c == '×' || c == '*') { pos++; unaer(); befehl(MUL); }
+                else if (c == '÷' || c == ':') { pos++; unaer(); befehl(DIV); }
+                else return;
+            }
+        }
+
+        private void unaer() {
+            if (naechstes() == '-') {
+                pos++;
+                unaer();
+                if (letzterBefehl() == KONST) {
+                    int idx = code[laenge - 1] >>> 8;
+                    konstanten.set(idx, Bruch.of(0).sub(konstanten.get(idx)));
+                } else {
+                    befehl(NEG);
+                }
+                return;
+            }
+            bruch();
+        }
+
+        private void bruch() {
+            primaer();
+            while (naechstes() == '/') {
+                pos++;
+                primaer();
+                if (letzterBefehl() == KONST && vorletzterBefehlIstKonstante()) {
+                    // Literal z/n wie im Konstruktor zusammenfassen, Nenner 0 fällt schon hier auf
+                    Bruch n = konstanten.remove(konstanten.size() - 1);
+                    Bruch z = konstanten.get(konstanten.size() - 1);
+                    laenge--;
+                    stack--;
+                    if (n.bigZaehler().signum() == 0) throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+                    konstanten.set(konstanten.size() - 1, z.div(n));
+                } else {
+                    befehl(DIV);
+                }
+            }
+        }
+
+        private void primaer() {
+            char c = naechstes();
+            if (c == '(') {
+                pos++;
+                ausdruck();
+                if (naechstes() != ')') throw new IllegalArgumentException("Klammer ')' fehlt an Position " + pos);
+                pos++;
+            } else if (c >= '0' && c <= '9') {
+                int start = pos;
+                while (pos < s.length() && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') pos++;
+                konstante(Bruch.of(Integer.parseInt(s.substring(start, pos))));
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = pos;
+                while (pos < s.length() && (Character.isLetterOrDigit(s.charAt(pos)) || s.charAt(pos) == '_')) pos++;
+                String name = s.substring(start, pos);
+                int slot = variablen.indexOf(name);
+                if (slot < 0) {
+                    slot = variablen.size();
+                    variablen.add(name);
+                }
+                befehl(VAR | slot << 8);
+            } else if (pos == s.length()) {
+                throw new IllegalArgumentException("Ausdruck unvollständig");
+            } else {
+                throw unerwartet();
+            }
+        }
+
+        private void konstante(Bruch b) {
+            befehl(KONST | konstanten.size() << 8);
+            konstanten.add(b);
+        }
+
+        private void befehl(int b) {
+            if (laenge == code.length) code = Arrays.copyOf(code, laenge * 2);
+            code[laenge++] = b;
+            int op = b & 0xFF;
+            if (op == KONST || op == VAR) stack++;
+            else if (op != NEG) stack--;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        private int letzterBefehl() {
+            return code[laenge - 1] & 0xFF;
+        }
+
+        private boolean vorletzterBefehlIstKonstante() {
+            return laenge >= 2 && (code[laenge - 2] & 0xFF) == KONST;
+        }
+
+        private char naechstes() {
+            leerraum();
+            return pos < s.length() ? s.charAt(pos) : '\0';
+        }
+
+        private void leerraum() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        private IllegalArgumentException unerwartet() {
+            return new IllegalArgumentException("Unerwartetes Zeichen '" + s.charAt(pos) + "' an Position " + pos);
+        }
+    }
+}
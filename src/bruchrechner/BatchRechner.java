@@ -0,0 +1,257 @@
+package bruchrechner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@summary Kommandozeilen-Modus ohne Oberfläche: wertet Zeilen der Form "A op B" parallel aus.}
+ * Jede Eingabezeile wie {@code 3/4 × -5/6} ergibt genau eine Ausgabezeile in derselben Reihenfolge:
+ * {@code Bruch<TAB>gemischt} bei Erfolg, sonst {@code Fehler: <Meldung>} mit denselben Texten wie die Oberfläche;
+ * mit {@code --dezimal} folgt als dritte Spalte die {@link Dezimaldarstellung}.
+ * Die Eingabe wird in Blöcken gelesen; während ein Block auf dem Fork-Join-Pool rechnet, wird der nächste gelesen.
+ * <p>
+ * Aufruf: {@code java -jar bruchrechner.jar --batch [datei|-] [--threads n] [--dezimal] [--skalierung]}
+ */
+public final class BatchRechner {
+    /** Zeilen pro Block, der gelesen, parallel gerechnet und geschrieben wird. */
+    static final int BLOCK = 1 << 14;
+    /** Zeilen, ab denen eine Teilaufgabe nicht weiter aufgeteilt wird. */
+    static final int SCHWELLE = 512;
+
+    private final ForkJoinPool pool;
+    private final boolean dezimal;
+
+    /**
+     * {@summary Erzeugt einen Batch-Rechner mit eigenem Fork-Join-Pool.}
+     *
+     * @param threads Anzahl paralleler Worker
+     */
+    public BatchRechner(int threads) {
+        this(threads, false);
+    }
+
+    /**
+     * {@summary Erzeugt einen Batch-Rechner, der auf Wunsch die Dezimalschreibweise mit ausgibt.}
+     *
+     * @param threads Anzahl paralleler Worker
+     * @param dezimal {@code true} für die dritte Spalte mit der Dezimalschreibweise
+     */
+    public BatchRechner(int threads, boolean dezimal) {
+        pool = new ForkJoinPool(threads);
+        this.dezimal = dezimal;
+    }
+
+    /**
+     * {@summary Einstiegspunkt für {@code --batch}; liefert den Exit-Code.}
+     *
+     * @param args Kommandozeilenargumente inklusive {@code --batch}
+     * @return 0 bei Erfolg, 2 bei falschen Argumenten
+     * @throws IOException bei Lese- oder Schreibfehlern
+     */
+    public static int starte(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        String datei = "-";
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean skalierung = false;
+        boolean dezimal = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads":
+                    if (i + 1 >= args.length) return nutzung();
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        return nutzung();
+                    }
+                    break;
+                case "--skalierung": skalierung = true; break;
+                case "--dezimal": dezimal = true; break;
+                default: datei = args[i];
+            }
+        }
+        if (threads < 1) return nutzung();
+        try (BufferedReader in = datei.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(datei), StandardCharsets.UTF_8)) {
+            if (skalierung) {
+                messeSkalierung(in, threads, dezimal);
+                return 0;
+            }
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            BatchRechner r = new BatchRechner(threads, dezimal);
+            long start = System.nanoTime();
+            long zeilen = r.verarbeite(in, out);
+            out.flush();
+            r.schliesse();
+            System.err.println(bericht(zeilen, System.nanoTime() - start, threads));
+            if (BruchMetriken.AKTIV) System.err.print(BruchMetriken.text());
+        }
+        return 0;
+    }
+
+    /**
+     * {@summary Liest alle Zeilen, rechnet sie blockweise parallel und schreibt die Ergebnisse in Eingabereihenfolge.}
+     *
+     * @param in  Quelle, eine Rechnung pro Zeile
+     * @param out Ziel, eine Ergebniszeile pro Eingabezeile
+     * @return Anzahl verarbeiteter Zeilen
+     * @throws IOException bei Lese- oder Schreibfehlern
+     */
+    public long verarbeite(BufferedReader in, Writer out) throws IOException {
+        long gesamt = 0;
+        String[] zeilen = lies(in);
+        while (zeilen.length > 0) {
+            String[] ergebnisse = new String[zeilen.length];
+            ForkJoinTask<Void> laufend = pool.submit(new Teil(zeilen, ergebnisse, 0, zeilen.length, dezimal));
+            String[] naechste = lies(in);
+            laufend.join();
+            for (String e : ergebnisse) {
+                out.write(e);
+                out.write('\n');
+            }
+            gesamt += zeilen.length;
+            zeilen = naechste;
+        }
+        return gesamt;
+    }
+
+    /**
+     * {@summary Beendet den Fork-Join-Pool; laufende Blöcke werden noch fertig gerechnet.}
+     */
+    void schliesse() {
+        pool.shutdown();
+    }
+
+    /**
+     * {@summary Wertet eine Zeile "A op B" aus, mit denselben Regeln und Meldungen wie die Oberfläche.}
+     * Die Operanden werden mit dem übergebenen Parser direkt aus der Zeile gelesen, ohne sie zu zerlegen.
+     *
+     * @param zeile Eingabezeile
+     * @param p     wiederverwendbarer Parser des aufrufenden Threads
+     * @return Ausgabezeile
+     */
+    static String auswerten(String zeile, BruchParser p) {
+        return auswerten(zeile, p, false);
+    }
+
+    /**
+     * {@summary Wie {@link #auswerten(String, BruchParser)}, bei {@code dezimal} mit Dezimalschreibweise als dritter Spalte.}
+     */
+    static String auswerten(String zeile, BruchParser p, boolean dezimal) {
+        try {
+            int[] t = new int[6];
+            if (tokens(zeile, t) != 3) throw new IllegalArgumentException("Format: A op B");
+            if (!p.parse(zeile, t[0], t[1])) throw p.alsAusnahme();
+            Bruch a = p.toBruch();
+            if (!p.parse(zeile, t[4], t[5])) throw p.alsAusnahme();
+            Bruch b = p.toBruch();
+            Bruch res = Rechnung.rechne(a, zeile.substring(t[2], t[3]), b);
+            StringBuilder sb = res.formatMixedTo(res.formatTo(new StringBuilder(32)).append('\t'));
+            if (dezimal) sb.append('\t').append(res.toDecimalString());
+            return sb.toString();
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            return "Fehler: " + Rechnung.fehlertext(ex);
+        }
+    }
+
+    /**
+     * {@summary Sucht bis zu drei durch Leerraum getrennte Tokens und trägt ihre Grenzen in {@code t} ein.}
+     *
+     * @return Anzahl der Tokens (mehr als 3 wird als 4 gemeldet)
+     */
+    private static int tokens(String s, int[] t) {
+        int anzahl = 0;
+        int i = 0;
+        int len = s.length();
+        while (true) {
+            while (i < len && s.charAt(i) <= ' ') i++;
+            if (i == len) return anzahl;
+            if (anzahl == 3) return 4;
+            t[2 * anzahl] = i;
+            while (i < len && s.charAt(i) > ' ') i++;
+            t[2 * anzahl + 1] = i;
+            anzahl++;
+        }
+    }
+
+    private static String[] lies(BufferedReader in) throws IOException {
+        List<String> block = new ArrayList<>(BLOCK);
+        String zeile;
+        while (block.size() < BLOCK && (zeile = in.readLine()) != null) block.add(zeile);
+        return block.toArray(new String[0]);
+    }
+
+    /**
+     * {@summary Rechnet dieselben Zeilen mit 1, 2, 4, … Threads und meldet den Durchsatz je Stufe.}
+     * Die Eingabe wird vorab vollständig gelesen, die Ausgabe verworfen, damit nur die Rechenzeit zählt.
+     */
+    private static void messeSkalierung(BufferedReader in, int maxThreads, boolean dezimal) throws IOException {
+        List<String> alle = new ArrayList<>();
+        String zeile;
+        while ((zeile = in.readLine()) != null) alle.add(zeile);
+        String[] zeilen = alle.toArray(new String[0]);
+        String[] ergebnisse = new String[zeilen.length];
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            pool.invoke(new Teil(zeilen, ergebnisse, 0, zeilen.length, dezimal)); // Aufwärmen
+            long start = System.nanoTime();
+            pool.invoke(new Teil(zeilen, ergebnisse, 0, zeilen.length, dezimal));
+            System.out.println(bericht(zeilen.length, System.nanoTime() - start, threads));
+            pool.shutdown();
+            if (threads == maxThreads) break;
+        }
+    }
+
+    private static String bericht(long zeilen, long nanos, int threads) {
+        double sekunden = nanos / 1e9;
+        return String.format("%d Zeilen in %.3f s mit %d Threads: %.0f Zeilen/s",
+                zeilen, sekunden, threads, zeilen / Math.max(sekunden, 1e-9));
+    }
+
+    private static int nutzung() {
+        System.err.println("Aufruf: java -jar bruchrechner.jar --batch [datei|-] [--threads n] [--dezimal] [--skalierung]");
+        return 2;
+    }
+
+    /**
+     * {@summary Teilaufgabe über einen Zeilenbereich; teilt sich bis {@link #SCHWELLE} Zeilen rekursiv auf.}
+     */
+    private static final class Teil extends RecursiveAction {
+        private final String[] zeilen;
+        private final String[] ergebnisse;
+        private final int von;
+        private final int bis;
+        private final boolean dezimal;
+
+        Teil(String[] zeilen, String[] ergebnisse, int von, int bis, boolean dezimal) {
+            this.zeilen = zeilen;
+            this.ergebnisse = ergebnisse;
+            this.von = von;
+            this.bis = bis;
+            this.dezimal = dezimal;
+        }
+
+        @Override
+        protected void compute() {
+            if (bis - von <= SCHWELLE) {
+                BruchParser p = new BruchParser();
+                for (int i = von; i < bis; i++) ergebnisse[i] = auswerten(zeilen[i], p, dezimal);
+                return;
+            }
+            int mitte = (von + bis) >>> 1;
+            invokeAll(new Teil(zeilen, ergebnisse, von, mitte, dezimal), new Teil(zeilen, ergebnisse, mitte, bis, dezimal));
+        }
+    }
+}
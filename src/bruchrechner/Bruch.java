@@ -0,0 +1,636 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+
+/**
+ * {@summary Unveränderliche Repräsentation eines gekürzten Bruchs (Zähler/Nenner) mit Grundrechenarten und Parsing.}
+ * Stellt sicher, dass der Nenner nie 0 ist, normalisiert das Vorzeichen in den Zähler
+ * und kürzt automatisch mit dem größten gemeinsamen Teiler.
+ * <p>
+ * Werte, die in {@code int} passen, werden primitiv gespeichert und mit {@code long}-Zwischenergebnissen
+ * berechnet (schneller Pfad). Nur wenn ein gekürztes Ergebnis nicht mehr in {@code int} passt,
+ * wechselt der Bruch auf {@link BigInteger}. Wie oft welcher Pfad genommen wird, zählt {@link RechenStatistik}.
+ * Kleine Ergebnisse werden als geteilte Instanzen aus dem Cache von {@link #valueOf(int, int)} geliefert.
+ */
+public final class Bruch implements Comparable<Bruch> {
+    /** Größter Betrag eines Zählers im Instanz-Cache von {@link #valueOf(int, int)}. */
+    static final int CACHE_ZAEHLER = 64;
+    /** Größter Nenner im Instanz-Cache von {@link #valueOf(int, int)}. */
+    static final int CACHE_NENNER = 16;
+
+    /** Kanonische Instanzen: {@code CACHE[n][z + CACHE_ZAEHLER]} ist der gekürzte Bruch {@code z/n}. */
+    private static final Bruch[][] CACHE = new Bruch[CACHE_NENNER + 1][];
+
+    static {
+        for (int n = 1; n <= CACHE_NENNER; n++) {
+            Bruch[] zeile = new Bruch[2 * CACHE_ZAEHLER + 1];
+            for (int z = -CACHE_ZAEHLER; z <= CACHE_ZAEHLER; z++) {
+                int g = gcd(z, n);
+                // gekürzte Werte liegen ebenfalls im Cache und wurden in einer früheren Zeile bereits erzeugt
+                zeile[z + CACHE_ZAEHLER] = g == 1 ? new Bruch(z, n, null, null) : CACHE[n / g][z / g + CACHE_ZAEHLER];
+            }
+            CACHE[n] = zeile;
+        }
+    }
+
+    private final int zaehler;        // bei isGross() ohne Bedeutung (0)
+    private final int nenner;
+    private final BigInteger grossZaehler; // null, solange der Wert in int passt
+    private final BigInteger grossNenner;
+
+    /**
+     * {@summary Erzeugt einen gekürzten Bruch und normalisiert Vorzeichen.}
+     * Kürzt automatisch mit gcd(|z|, |n|). Bei negativem Nenner wird das Vorzeichen in den Zähler gezogen.
+     * Gerechnet wird in {@code long}, damit auch {@code Integer.MIN_VALUE} korrekt negiert wird.
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     */
+    public Bruch(int zaehler, int nenner) {
+        if (nenner == 0) {
+            throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+        }
+        long z = zaehler;
+        long n = nenner;
+        if (n < 0) {
+            z = -z;
+            n = -n;
+        }
+        long g = gcd(z, n);
+        z /= g;
+        n /= g;
+        if (passtInInt(z) && passtInInt(n)) {
+            this.zaehler = (int) z;
+            this.nenner = (int) n;
+            this.grossZaehler = null;
+            this.grossNenner = null;
+        } else {
+            this.zaehler = 0;
+            this.nenner = 0;
+            this.grossZaehler = BigInteger.valueOf(z);
+            this.grossNenner = BigInteger.valueOf(n);
+        }
+    }
+
+    /**
+     * {@summary Interner Konstruktor ohne Prüfung und Kürzung.}
+     * Erwartet bereits gekürzte Werte mit positivem Nenner in genau einer der beiden Darstellungen.
+     */
+    private Bruch(int zaehler, int nenner, BigInteger grossZaehler, BigInteger grossNenner) {
+        this.zaehler = zaehler;
+        this.nenner = nenner;
+        this.grossZaehler = grossZaehler;
+        this.grossNenner = grossNenner;
+    }
+
+    /**
+     * {@summary Erzeugt einen Bruch aus bereits gekürzten long-Werten mit positivem Nenner.}
+     * Wählt die int-Darstellung, wenn beide Werte passen, sonst {@link BigInteger}.
+     *
+     * @param z gekürzter Zähler
+     * @param n gekürzter, positiver Nenner
+     * @return Bruch {@code z/n}
+     */
+    static Bruch ausGekuerzt(long z, long n) {
+        if (n <= CACHE_NENNER && z >= -CACHE_ZAEHLER && z <= CACHE_ZAEHLER) {
+            return CACHE[(int) n][(int) z + CACHE_ZAEHLER];
+        }
+        if (passtInInt(z) && passtInInt(n)) {
+            return new Bruch((int) z, (int) n, null, null);
+        }
+        RechenStatistik.ueberlauf();
+        return new Bruch(0, 0, BigInteger.valueOf(z), BigInteger.valueOf(n));
+    }
+
+    /**
+     * {@summary Erzeugt einen gekürzten Bruch aus beliebig großen Werten.}
+     * Normalisiert Vorzeichen, kürzt und wechselt zurück in den int-Pfad, sobald das Ergebnis passt.
+     *
+     * @param z Zähler
+     * @param n Nenner, darf nicht 0 sein
+     * @return gekürzter Bruch {@code z/n}
+     * @throws IllegalArgumentException wenn {@code n == 0}
+     */
+    public static Bruch of(BigInteger z, BigInteger n) {
+        if (n.signum() == 0) throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+        if (n.signum() < 0) {
+            z = z.negate();
+            n = n.negate();
+        }
+        BigInteger g = z.gcd(n);
+        if (!g.equals(BigInteger.ONE)) {
+            z = z.divide(g);
+            n = n.divide(g);
+        }
+        if (z.bitLength() < 32 && n.bitLength() < 32) {
+            return ausGekuerzt(z.intValue(), n.intValue());
+        }
+        return new Bruch(0, 0, z, n);
+    }
+
+    /**
+     * {@summary Erzeugt einen ganzzahligen Bruch z/1.}
+     *
+     * @param z ganzzahliger Wert
+     * @return Bruch {@code z/1}
+     */
+    public static Bruch of(int z) {
+        return valueOf(z, 1);
+    }
+
+    /**
+     * {@summary Liefert den gekürzten Bruch z/n, für kleine Werte als geteilte kanonische Instanz.}
+     * Wie {@link Integer#valueOf(int)}: Häufige Werte wie 0, 1, -1, 1/2 oder 3/4 werden nicht neu erzeugt,
+     * sondern aus einer vorberechneten Tabelle geliefert. Das ist möglich, weil {@code Bruch} unveränderlich ist.
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @return gekürzter Bruch {@code zaehler/nenner}
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     */
+    public static Bruch valueOf(int zaehler, int nenner) {
+        if (nenner == 0) {
+            throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+        }
+        long z = zaehler;
+        long n = nenner;
+        if (n < 0) {
+            z = -z;
+            n = -n;
+        }
+        if (n <= CACHE_NENNER && z >= -CACHE_ZAEHLER && z <= CACHE_ZAEHLER) {
+            return CACHE[(int) n][(int) z + CACHE_ZAEHLER];
+        }
+        long g = gcd(z, n);
+        return ausGekuerzt(z / g, n / g);
+    }
+
+    /**
+     * {@summary Gekürzter Zähler; trägt das Vorzeichen des Bruchs.}
+     *
+     * @return Zähler
+     * @throws ArithmeticException wenn der Wert nicht in int passt ({@link #isGross()})
+     */
+    public int getZaehler() {
+        if (grossZaehler != null) throw new ArithmeticException("Zähler passt nicht in int");
+        return zaehler;
+    }
+
+    /**
+     * {@summary Gekürzter Nenner; immer positiv.}
+     *
+     * @return Nenner
+     * @throws ArithmeticException wenn der Wert nicht in int passt ({@link #isGross()})
+     */
+    public int getNenner() {
+        if (grossZaehler != null) throw new ArithmeticException("Nenner passt nicht in int");
+        return nenner;
+    }
+
+    /**
+     * {@summary Gibt an, ob der Wert außerhalb des int-Bereichs liegt und als BigInteger gespeichert ist.}
+     *
+     * @return {@code true} im BigInteger-Pfad
+     */
+    public boolean isGross() {
+        return grossZaehler != null;
+    }
+
+    /**
+     * {@summary Zähler unabhängig von der Darstellung.}
+     *
+     * @return Zähler als BigInteger
+     */
+    public BigInteger bigZaehler() {
+        return grossZaehler != null ? grossZaehler : BigInteger.valueOf(zaehler);
+    }
+
+    /**
+     * {@summary Nenner unabhängig von der Darstellung.}
+     *
+     * @return Nenner als BigInteger (immer positiv)
+     */
+    public BigInteger bigNenner() {
+        return grossNenner != null ? grossNenner : BigInteger.valueOf(nenner);
+    }
+
+    /**
+     * {@summary Parst einen String zu einem Bruch.}
+     * Erlaubte Formate: {@code "z"} oder {@code "z/n"} mit optionalen Leerzeichen.
+     * Für Massendaten ohne Zwischenobjekte siehe {@link BruchParser}.
+     *
+     * @param s Eingabe-String
+     * @return geparster und gekürzter Bruch
+     * @throws IllegalArgumentException bei {@code null}, leerem String oder falschem Format
+     * @throws NumberFormatException bei ungültigen Ganzzahlen in Zähler/Nenner
+     */
+    public static Bruch parse(String s) {
+        if (s == null) throw new IllegalArgumentException("Eingabe fehlt");
+        BruchParser p = new BruchParser();
+        if (!p.parse(s, 0, s.length())) throw p.alsAusnahme();
+        return p.toBruch();
+    }
+
+    /**
+     * {@summary Beste rationale Näherung eines doubles mit beschränktem Nenner.}
+     * Liefert unter allen Brüchen mit Nenner {@code <= maxNenner} den, der {@code x} am nächsten liegt
+     * (Kettenbruchentwicklung, siehe {@link Naeherung}); bei Gleichstand den mit kleinerem Nenner.
+     * Ist {@code x} bereits mit einem solchen Nenner exakt darstellbar, ist das Ergebnis exakt.
+     *
+     * @param x         endlicher Wert
+     * @param maxNenner größter erlaubter Nenner, mindestens 1
+     * @return gekürzte Näherung
+     * @throws IllegalArgumentException bei NaN, unendlichem Wert oder {@code maxNenner < 1}
+     */
+    public static Bruch naeherung(double x, int maxNenner) {
+        if (!Double.isFinite(x)) throw new IllegalArgumentException("Keine endliche Zahl: " + x);
+        if (maxNenner < 1) throw new IllegalArgumentException("Maximaler Nenner muss mindestens 1 sein");
+        long[] aus = new long[2];
+        if (Naeherung.klein(x, maxNenner, aus)) return ausGekuerzt(aus[0], aus[1]);
+        return Naeherung.gross(x, maxNenner);
+    }
+
+    /**
+     * {@summary Wandelt eine Dezimalzahl exakt in einen Bruch um, z. B. {@code "0.375"} in 3/8.}
+     * Erlaubt sind Vorzeichen, Dezimalpunkt und Exponent ({@code "-1.5e-3"}) mit optionalen Leerzeichen.
+     *
+     * @param s Dezimaltext
+     * @return exakter, gekürzter Bruch
+     * @throws NumberFormatException bei ungültigem Format
+     */
+    public static Bruch ausDezimal(CharSequence s) {
+        return Naeherung.dezimal(s);
+    }
+
+    /**
+     * {@summary Addiert zwei Brüche und liefert das gekürzte Ergebnis.}
+     * Kürzt vorab mit gcd der Nenner (Knuth), sodass alle Zwischenergebnisse in {@code long} passen.
+     *
+     * @param b Summand
+     * @return {@code this + b}
+     */
+    public Bruch add(Bruch b) {
+        long t = BruchMetriken.start();
+        return BruchMetriken.ende(BruchMetriken.ADD, t, addIntern(b));
+    }
+
+    private Bruch addIntern(Bruch b) {
+        if (grossZaehler != null || b.grossZaehler != null) {
+            RechenStatistik.grosserPfad();
+            return of(bigZaehler().multiply(b.bigNenner()).add(b.bigZaehler().multiply(bigNenner())),
+                    bigNenner().multiply(b.bigNenner()));
+        }
+        RechenStatistik.schnellerPfad();
+        return addKlein(zaehler, nenner, b.zaehler, b.nenner);
+    }
+
+    /**
+     * {@summary Subtrahiert einen Bruch und liefert das gekürzte Ergebnis.}
+     *
+     * @param b Subtrahend
+     * @return {@code this - b}
+     */
+    public Bruch sub(Bruch b) {
+        long t = BruchMetriken.start();
+        return BruchMetriken.ende(BruchMetriken.SUB, t, subIntern(b));
+    }
+
+    private Bruch subIntern(Bruch b) {
+        if (grossZaehler != null || b.grossZaehler != null) {
+            RechenStatistik.grosserPfad();
+            return of(bigZaehler().multiply(b.bigNenner()).subtract(b.bigZaehler().multiply(bigNenner())),
+                    bigNenner().multiply(b.bigNenner()));
+        }
+        RechenStatistik.schnellerPfad();
+        return addKlein(zaehler, nenner, -(long) b.zaehler, b.nenner);
+    }
+
+    /**
+     * {@summary Multipliziert zwei Brüche und liefert das gekürzte Ergebnis.}
+     * Kürzt über Kreuz vor dem Multiplizieren, das Ergebnis ist damit bereits gekürzt.
+     *
+     * @param b Faktor
+     * @return {@code this * b}
+     */
+    public Bruch mul(Bruch b) {
+        long t = BruchMetriken.start();
+        return BruchMetriken.ende(BruchMetriken.MUL, t, mulIntern(b));
+    }
+
+    private Bruch mulIntern(Bruch b) {
+        if (grossZaehler != null || b.grossZaehler != null) {
+            RechenStatistik.grosserPfad();
+            return of(bigZaehler().multiply(b.bigZaehler()), bigNenner().multiply(b.bigNenner()));
+        }
+        RechenStatistik.schnellerPfad();
+        return mulKlein(zaehler, nenner, b.zaehler, b.nenner);
+    }
+
+    /**
+     * {@summary Dividiert durch einen Bruch und liefert das gekürzte Ergebnis.}
+     *
+     * @param b Divisor
+     * @return {@code this / b}
+     * @throws ArithmeticException wenn {@code b.zaehler == 0} (Division durch 0)
+     */
+    public Bruch div(Bruch b) {
+        if (b.grossZaehler == null && b.zaehler == 0) {
+            BruchMetriken.divisionDurchNull();
+            throw new ArithmeticException("Division durch 0");
+        }
+        long t = BruchMetriken.start();
+        return BruchMetriken.ende(BruchMetriken.DIV, t, divIntern(b));
+    }
+
+    private Bruch divIntern(Bruch b) {
+        if (grossZaehler != null || b.grossZaehler != null) {
+            RechenStatistik.grosserPfad();
+            return of(bigZaehler().multiply(b.bigNenner()), bigNenner().multiply(b.bigZaehler()));
+        }
+        RechenStatistik.schnellerPfad();
+        // a/b ÷ c/d = a/b × d/c, Vorzeichen des Kehrwerts in den Zähler ziehen
+        long c = b.zaehler;
+        long d = b.nenner;
+        if (c < 0) {
+            c = -c;
+            d = -d;
+        }
+        return mulKlein(zaehler, nenner, d, c);
+    }
+
+    /**
+     * {@summary Wechselt für eine Rechenkette in den Modus ohne sofortiges Kürzen.}
+     * Die Kette kürzt erst beim Beobachten oder bei zu großen Werten, siehe {@link UngekuerzterBruch}.
+     *
+     * @return dieser Wert als {@link UngekuerzterBruch}
+     */
+    public UngekuerzterBruch ungekuerzt() {
+        return UngekuerzterBruch.von(this);
+    }
+
+    /**
+     * {@summary Betrag des Bruchs.}
+     * Macht den Zähler positiv, Nenner bleibt positiv.
+     *
+     * @return {@code |this|}
+     */
+    public Bruch abs() {
+        if (grossZaehler != null) return new Bruch(0, 0, grossZaehler.abs(), grossNenner);
+        return ausGekuerzt(Math.abs((long) zaehler), nenner);
+    }
+
+    /**
+     * {@summary Summe a/b + c/d für Werte im int-Bereich.}
+     * Mit g = gcd(b, d) gilt |a·(d/g)|, |c·(b/g)| &lt; 2^62, die Summe passt also sicher in long.
+     * Danach genügt ein gcd mit g statt mit dem vollen Nenner.
+     */
+    static Bruch addKlein(long a, long b, long c, long d) {
+        long g = gcd(b, d);
+        long t = a * (d / g) + c * (b / g);
+        if (t == 0) return ausGekuerzt(0, 1);
+        long g2 = gcd(t, g);
+        return ausGekuerzt(t / g2, (b / g) * (d / g2));
+    }
+
+    /**
+     * {@summary Produkt a/b × c/d für Werte im int-Bereich mit gekürzten Faktoren und positiven Nennern.}
+     * Kürzt über Kreuz, Produkte zweier Werte &le; 2^31 passen sicher in long.
+     */
+    static Bruch mulKlein(long a, long b, long c, long d) {
+        if (a == 0 || c == 0) return ausGekuerzt(0, 1);
+        long g1 = gcd(a, d);
+        long g2 = gcd(c, b);
+        return ausGekuerzt((a / g1) * (c / g2), (b / g2) * (d / g1));
+    }
+
+    /**
+     * {@summary Prüft, ob ein long-Wert in int passt.}
+     */
+    static boolean passtInInt(long v) {
+        return v == (int) v;
+    }
+
+    /**
+     * {@summary Größter gemeinsamer Teiler mittels binärem Algorithmus (Stein).}
+     * Gibt mindestens 1 zurück. Nur {@code gcd(MIN_VALUE, 0)} und {@code gcd(MIN_VALUE, MIN_VALUE)} wären
+     * 2^31 und passen nicht in int; dafür wird wie beim früheren Euklid-Verfahren 1 geliefert.
+     *
+     * @param a erste Zahl
+     * @param b zweite Zahl
+     * @return {@code gcd(|a|, |b|)} oder 1, wenn beide 0 oder das Ergebnis 2^31 wäre
+     */
+    public static int gcd(int a, int b) {
+        long g = gcd((long) a, b);
+        return g > Integer.MAX_VALUE ? 1 : (int) g;
+    }
+
+    /**
+     * {@summary Größter gemeinsamer Teiler für long-Werte mittels binärem Algorithmus (Stein).}
+     * Statt Divisionen nur Verschiebungen und Subtraktionen: gemeinsame Zweierfaktoren werden einmal über
+     * {@code numberOfTrailingZeros} abgespalten, danach bleibt in jedem Schritt die Differenz zweier
+     * ungerader Zahlen. Bei Operanden ab etwa 30 Bit rund 1,7-mal schneller als Euklid
+     * (siehe {@code GcdBenchmark}). Gibt mindestens 1 zurück, damit das Ergebnis immer als Teiler taugt.
+     *
+     * @param a erste Zahl, nicht {@code Long.MIN_VALUE}
+     * @param b zweite Zahl, nicht {@code Long.MIN_VALUE}
+     * @return {@code gcd(|a|, |b|)} oder 1, wenn beide 0
+     */
+    public static long gcd(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a == 0 || b == 0) {
+            BruchMetriken.gcd(0);
+            return Math.max(1, a | b);
+        }
+        int k = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        int schritte = 0;
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+            long d = b - a;
+            long m = d >> 63;   // -1, wenn b < a
+            a += d & m;         // min(a, b)
+            b = (d ^ m) - m;    // |b - a|
+            schritte++;
+        } while (b != 0);
+        BruchMetriken.gcd(schritte);
+        return a << k;
+    }
+
+    /**
+     * {@summary Näherungswert als double.}
+     *
+     * @return {@code zaehler / nenner} als Gleitkommazahl
+     */
+    public double doubleValue() {
+        if (grossZaehler != null) {
+            double z = grossZaehler.doubleValue();
+            double n = grossNenner.doubleValue();
+            if (!Double.isInfinite(z) && !Double.isInfinite(n)) return z / n;
+            return new BigDecimal(grossZaehler)
+                    .divide(new BigDecimal(grossNenner), MathContext.DECIMAL64).doubleValue();
+        }
+        return (double) zaehler / nenner;
+    }
+
+    /**
+     * {@summary Vergleicht zwei Brüche nach ihrem Wert, ohne Objekte zu erzeugen.}
+     * Im int-Pfad exakt per Kreuzmultiplikation in long. Im BigInteger-Pfad entscheidet zuerst ein
+     * double-Vergleich, nur bei (fast) gleichen Näherungswerten wird exakt mit BigInteger gerechnet.
+     *
+     * @param b Vergleichswert
+     * @return negativ, 0 oder positiv, wenn {@code this} kleiner, gleich oder größer als {@code b} ist
+     */
+    @Override
+    public int compareTo(Bruch b) {
+        if (grossZaehler == null && b.grossZaehler == null) {
+            return Long.compare((long) zaehler * b.nenner, (long) b.zaehler * nenner);
+        }
+        double x = doubleValue();
+        double y = b.doubleValue();
+        if (Math.abs(x - y) > 1e-9 * Math.max(Math.abs(x), Math.abs(y))) return x < y ? -1 : 1;
+        return bigZaehler().multiply(b.bigNenner()).compareTo(b.bigZaehler().multiply(bigNenner()));
+    }
+
+    /**
+     * {@summary Wertgleichheit; da Brüche immer gekürzt sind, genügt der Vergleich der Darstellung.}
+     *
+     * @param o Vergleichsobjekt
+     * @return {@code true}, wenn {@code o} ein Bruch mit gleichem Wert ist
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Bruch b)) return false;
+        if (grossZaehler == null) return b.grossZaehler == null && zaehler == b.zaehler && nenner == b.nenner;
+        return grossZaehler.equals(b.grossZaehler) && grossNenner.equals(b.grossNenner);
+    }
+
+    @Override
+    public int hashCode() {
+        if (grossZaehler == null) return 31 * zaehler + nenner;
+        return 31 * grossZaehler.hashCode() + grossNenner.hashCode();
+    }
+
+    /**
+     * {@summary Kompakte String-Darstellung.}
+     * Gibt bei Nenner 1 nur den Zähler zurück, sonst {@code z/n}.
+     *
+     * @return String-Repräsentation
+     */
+    @Override
+    public String toString() {
+        return formatTo(new StringBuilder(24)).toString();
+    }
+
+    /**
+     * {@summary Gemischte Schreibweise: ganze Anteile plus Restbruch.}
+     * Beispiele: {@code 7/3 -> "2 1/3"}, {@code -7/3 -> "-2 1/3"}, {@code 4/2 -> "2"}.
+     *
+     * @return Darstellung als gemischte Zahl
+     */
+    public String toMixedString() {
+        return formatMixedTo(new StringBuilder(24)).toString();
+    }
+
+    /**
+     * {@summary Hängt {@link #toString()} an, ohne einen String zu erzeugen.}
+     *
+     * @param sb Ziel
+     * @return {@code sb}
+     */
+    public StringBuilder formatTo(StringBuilder sb) {
+        if (grossZaehler != null) return BruchFormat.bruch(grossZaehler, grossNenner, sb);
+        return BruchFormat.bruch(zaehler, nenner, sb);
+    }
+
+    /**
+     * {@summary Schreibt {@link #toString()} zeichenweise in ein beliebiges Ziel, z. B. einen Writer.}
+     *
+     * @param a Ziel
+     * @return {@code a}
+     * @throws IOException wenn das Ziel nicht schreiben kann
+     */
+    public <A extends Appendable> A formatTo(A a) throws IOException {
+        if (grossZaehler != null) a.append(toString());
+        else BruchFormat.bruch(zaehler, nenner, a);
+        return a;
+    }
+
+    /**
+     * {@summary Schreibt {@link #toString()} als ASCII ab der aktuellen Position in einen Puffer.}
+     *
+     * @param buf Ziel
+     * @return {@code buf}
+     * @throws java.nio.BufferOverflowException wenn der Platz nicht reicht
+     */
+    public ByteBuffer formatTo(ByteBuffer buf) {
+        if (grossZaehler != null) BruchFormat.ascii(toString(), buf);
+        else BruchFormat.bruch(zaehler, nenner, buf);
+        return buf;
+    }
+
+    /**
+     * {@summary Hängt {@link #toMixedString()} an, ohne einen String zu erzeugen.}
+     *
+     * @param sb Ziel
+     * @return {@code sb}
+     */
+    public StringBuilder formatMixedTo(StringBuilder sb) {
+        if (grossZaehler != null) return BruchFormat.gemischt(grossZaehler, grossNenner, sb);
+        return BruchFormat.gemischt(zaehler, nenner, sb);
+    }
+
+    /**
+     * {@summary Schreibt {@link #toMixedString()} zeichenweise in ein beliebiges Ziel.}
+     *
+     * @param a Ziel
+     * @return {@code a}
+     * @throws IOException wenn das Ziel nicht schreiben kann
+     */
+    public <A extends Appendable> A formatMixedTo(A a) throws IOException {
+        if (grossZaehler != null) a.append(toMixedString());
+        else BruchFormat.gemischt(zaehler, nenner, a);
+        return a;
+    }
+
+    /**
+     * {@summary Schreibt {@link #toMixedString()} als ASCII ab der aktuellen Position in einen Puffer.}
+     *
+     * @param buf Ziel
+     * @return {@code buf}
+     * @throws java.nio.BufferOverflowException wenn der Platz nicht reicht
+     */
+    public ByteBuffer formatMixedTo(ByteBuffer buf) {
+        if (grossZaehler != null) BruchFormat.ascii(toMixedString(), buf);
+        else BruchFormat.gemischt(zaehler, nenner, buf);
+        return buf;
+    }
+
+    /**
+     * {@summary Dezimalschreibweise mit markierter Periode, z. B. {@code 1/7 -> "0.(142857)"}.}
+     * Höchstens {@link Dezimaldarstellung#STANDARD_STELLEN} Nachkommastellen, längere Perioden werden
+     * mit {@code …} abgeschnitten.
+     *
+     * @return Darstellung als Dezimalzahl
+     */
+    public String toDecimalString() {
+        return Dezimaldarstellung.text(this);
+    }
+
+    /**
+     * {@summary Dezimalschreibweise mit höchstens {@code maxStellen} Nachkommastellen.}
+     *
+     * @param maxStellen Grenze für Vorperiode plus Periode, mindestens 1
+     * @return Darstellung als Dezimalzahl
+     * @see Dezimaldarstellung
+     */
+    public String toDecimalString(int maxStellen) {
+        return Dezimaldarstellung.text(this, maxStellen);
+    }
+}
\ No newline at end of file
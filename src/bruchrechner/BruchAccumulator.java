@@ -0,0 +1,296 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+
+/**
+ * {@summary Veränderlicher Akkumulator zum Aufsummieren und Aufmultiplizieren langer Bruch-Reihen.}
+ * Hält den Zwischenstand gekürzt in zwei primitiven long-Feldern und wiederverwendet sich selbst,
+ * sodass im schnellen Pfad pro Schritt kein Objekt entsteht. Erst wenn ein Zwischenergebnis nicht mehr
+ * in long passt ({@link Math#multiplyExact}/{@link Math#addExact} melden den Überlauf), wird auf
+ * {@link BigInteger} gewechselt; sobald der Wert wieder passt, geht es primitiv weiter.
+ * <p>
+ * Die Ergebnisse sind identisch zur Verkettung von {@link Bruch#add}, {@link Bruch#sub}, {@link Bruch#mul}
+ * und {@link Bruch#div}, inklusive der Fehlermeldungen. Nicht threadsicher.
+ */
+public final class BruchAccumulator {
+    private long z;
+    private long n = 1;
+    private BigInteger grossZ; // null im long-Pfad
+    private BigInteger grossN;
+
+    /**
+     * {@summary Erzeugt einen Akkumulator mit Startwert 0.}
+     */
+    public BruchAccumulator() {
+    }
+
+    /**
+     * {@summary Erzeugt einen Akkumulator mit dem angegebenen Startwert.}
+     *
+     * @param start Startwert
+     */
+    public BruchAccumulator(Bruch start) {
+        set(start);
+    }
+
+    /**
+     * {@summary Setzt den Zwischenstand auf den Wert eines Bruchs.}
+     *
+     * @param b neuer Wert
+     * @return dieser Akkumulator
+     */
+    public BruchAccumulator set(Bruch b) {
+        if (b.isGross()) {
+            grossZ = b.bigZaehler();
+            grossN = b.bigNenner();
+        } else {
+            grossZ = null;
+            grossN = null;
+            z = b.getZaehler();
+            n = b.getNenner();
+        }
+        return this;
+    }
+
+    /**
+     * {@summary Setzt den Zwischenstand auf 0 zurück.}
+     *
+     * @return dieser Akkumulator
+     */
+    public BruchAccumulator reset() {
+        grossZ = null;
+        grossN = null;
+        z = 0;
+        n = 1;
+        return this;
+    }
+
+    /**
+     * {@summary Addiert einen Bruch zum Zwischenstand.}
+     *
+     * @param b Summand
+     * @return dieser Akkumulator
+     */
+    public BruchAccumulator addInPlace(Bruch b) {
+        if (b.isGross()) return addGross(b.bigZaehler(), b.bigNenner());
+        return addKlein(b.getZaehler(), b.getNenner());
+    }
+
+    /**
+     * {@summary Addiert {@code zaehler/nenner} ohne vorher einen Bruch zu erzeugen.}
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @return dieser Akkumulator
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     */
+    public BruchAccumulator addInPlace(int zaehler, int nenner) {
+        long g = pruefeUndKuerze(zaehler, nenner);
+        return addKlein(vorzeichen(nenner) * zaehler / g, Math.abs((long) nenner) / g);
+    }
+
+    /**
+     * {@summary Subtrahiert einen Bruch vom Zwischenstand.}
+     *
+     * @param b Subtrahend
+     * @return dieser Akkumulator
+     */
+    public BruchAccumulator subInPlace(Bruch b) {
+        if (b.isGross()) return addGross(b.bigZaehler().negate(), b.bigNenner());
+        return addKlein(-(long) b.getZaehler(), b.getNenner());
+    }
+
+    /**
+     * {@summary Subtrahiert {@code zaehler/nenner} ohne vorher einen Bruch zu erzeugen.}
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @return dieser Akkumulator
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     */
+    public BruchAccumulator subInPlace(int zaehler, int nenner) {
+        long g = pruefeUndKuerze(zaehler, nenner);
+        return addKlein(-vorzeichen(nenner) * zaehler / g, Math.abs((long) nenner) / g);
+    }
+
+    /**
+     * {@summary Multipliziert den Zwischenstand mit einem Bruch.}
+     *
+     * @param b Faktor
+     * @return dieser Akkumulator
+     */
+    public BruchAccumulator mulInPlace(Bruch b) {
+        if (b.isGross()) return mulGross(b.bigZaehler(), b.bigNenner());
+        return mulKlein(b.getZaehler(), b.getNenner());
+    }
+
+    /**
+     * {@summary Multipliziert mit {@code zaehler/nenner} ohne vorher einen Bruch zu erzeugen.}
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @return dieser Akkumulator
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     */
+    public BruchAccumulator mulInPlace(int zaehler, int nenner) {
+        long g = pruefeUndKuerze(zaehler, nenner);
+        return mulKlein(vorzeichen(nenner) * zaehler / g, Math.abs((long) nenner) / g);
+    }
+
+    /**
+     * {@summary Dividiert den Zwischenstand durch einen Bruch.}
+     *
+     * @param b Divisor
+     * @return dieser Akkumulator
+     * @throws ArithmeticException wenn {@code b} gleich 0 ist (Division durch 0)
+     */
+    public BruchAccumulator divInPlace(Bruch b) {
+        if (b.isGross()) {
+            BigInteger c = b.bigZaehler();
+            return c.signum() < 0 ? mulGross(b.bigNenner().negate(), c.negate()) : mulGross(b.bigNenner(), c);
+        }
+        if (b.getZaehler() == 0) {
+            BruchMetriken.divisionDurchNull();
+            throw new ArithmeticException("Division durch 0");
+        }
+        long c = b.getZaehler();
+        return c < 0 ? mulKlein(-(long) b.getNenner(), -c) : mulKlein(b.getNenner(), c);
+    }
+
+    /**
+     * {@summary Dividiert durch {@code zaehler/nenner} ohne vorher einen Bruch zu erzeugen.}
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, darf nicht 0 sein
+     * @return dieser Akkumulator
+     * @throws IllegalArgumentException wenn {@code nenner == 0}
+     * @throws ArithmeticException wenn {@code zaehler == 0} (Division durch 0)
+     */
+    public BruchAccumulator divInPlace(int zaehler, int nenner) {
+        long g = pruefeUndKuerze(zaehler, nenner);
+        if (zaehler == 0) {
+            BruchMetriken.divisionDurchNull();
+            throw new ArithmeticException("Division durch 0");
+        }
+        long c = vorzeichen(nenner) * zaehler / g;
+        long d = Math.abs((long) nenner) / g;
+        return c < 0 ? mulKlein(-d, -c) : mulKlein(d, c);
+    }
+
+    /**
+     * {@summary Liefert den aktuellen Zwischenstand als unveränderlichen Bruch.}
+     *
+     * @return gekürzter Bruch mit dem aktuellen Wert
+     */
+    public Bruch toBruch() {
+        if (grossZ != null) return Bruch.of(grossZ, grossN);
+        return Bruch.ausGekuerzt(z, n);
+    }
+
+    @Override
+    public String toString() {
+        return toBruch().toString();
+    }
+
+    /**
+     * {@summary Knuth-Addition z/n + c/d im long-Pfad, bei Überlauf weiter mit BigInteger.}
+     * Erwartet gekürztes {@code c/d} mit {@code d > 0} und {@code c != Long.MIN_VALUE}.
+     */
+    BruchAccumulator addKlein(long c, long d) {
+        if (grossZ == null) {
+            try {
+                long g = Bruch.gcd(n, d);
+                long t = Math.addExact(Math.multiplyExact(z, d / g), Math.multiplyExact(c, n / g));
+                if (t == 0) {
+                    z = 0;
+                    n = 1;
+                    return this;
+                }
+                long g2 = Bruch.gcd(pruefe(t), g);
+                long nn = Math.multiplyExact(n / g, d / g2);
+                z = t / g2;
+                n = nn;
+                return this;
+            } catch (ArithmeticException ueberlauf) {
+                RechenStatistik.ueberlauf();
+            }
+        }
+        return addGross(BigInteger.valueOf(c), BigInteger.valueOf(d));
+    }
+
+    /**
+     * {@summary Über Kreuz gekürzte Multiplikation z/n × c/d im long-Pfad, bei Überlauf weiter mit BigInteger.}
+     * Erwartet gekürztes {@code c/d} mit {@code d > 0} und {@code c != Long.MIN_VALUE}.
+     */
+    BruchAccumulator mulKlein(long c, long d) {
+        if (grossZ == null) {
+            if (z == 0 || c == 0) {
+                z = 0;
+                n = 1;
+                return this;
+            }
+            try {
+                long g1 = Bruch.gcd(z, d);
+                long g2 = Bruch.gcd(c, n);
+                long nz = pruefe(Math.multiplyExact(z / g1, c / g2));
+                n = Math.multiplyExact(n / g2, d / g1);
+                z = nz;
+                return this;
+            } catch (ArithmeticException ueberlauf) {
+                RechenStatistik.ueberlauf();
+            }
+        }
+        return mulGross(BigInteger.valueOf(c), BigInteger.valueOf(d));
+    }
+
+    private BruchAccumulator addGross(BigInteger c, BigInteger d) {
+        BigInteger az = grossZ != null ? grossZ : BigInteger.valueOf(z);
+        BigInteger an = grossN != null ? grossN : BigInteger.valueOf(n);
+        return setzeGross(az.multiply(d).add(c.multiply(an)), an.multiply(d));
+    }
+
+    private BruchAccumulator mulGross(BigInteger c, BigInteger d) {
+        BigInteger az = grossZ != null ? grossZ : BigInteger.valueOf(z);
+        BigInteger an = grossN != null ? grossN : BigInteger.valueOf(n);
+        return setzeGross(az.multiply(c), an.multiply(d));
+    }
+
+    /**
+     * {@summary Kürzt ein BigInteger-Ergebnis und kehrt in den long-Pfad zurück, wenn es passt.}
+     * Erwartet einen positiven Nenner.
+     */
+    private BruchAccumulator setzeGross(BigInteger nz, BigInteger nn) {
+        BigInteger g = nz.gcd(nn);
+        if (g.signum() != 0 && !g.equals(BigInteger.ONE)) {
+            nz = nz.divide(g);
+            nn = nn.divide(g);
+        }
+        if (nz.bitLength() < 63 && nn.bitLength() < 63) {
+            grossZ = null;
+            grossN = null;
+            z = nz.longValue();
+            n = nn.longValue();
+        } else {
+            grossZ = nz;
+            grossN = nn;
+        }
+        return this;
+    }
+
+    /**
+     * {@summary Long.MIN_VALUE lässt sich nicht negieren und wird wie ein Überlauf behandelt.}
+     */
+    private static long pruefe(long v) {
+        if (v == Long.MIN_VALUE) throw new ArithmeticException("long overflow");
+        return v;
+    }
+
+    private static long pruefeUndKuerze(int zaehler, int nenner) {
+        if (nenner == 0) throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+        return Bruch.gcd((long) zaehler, (long) nenner);
+    }
+
+    private static long vorzeichen(int nenner) {
+        return nenner < 0 ? -1 : 1;
+    }
+}
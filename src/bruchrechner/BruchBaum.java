@@ -0,0 +1,268 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * {@summary Segmentbaum über eine wachsende Folge von Brüchen mit Teilsummen und Teilprodukten.}
+ * Jeder innere Knoten hält Summe und Produkt seiner beiden Kinder, die Wurzel also Summe und Produkt aller
+ * Werte. Ändert sich ein Wert, werden nur die {@code log2(n)} Knoten auf dem Weg zur Wurzel neu berechnet;
+ * Präfixsummen und -produkte setzen sich aus höchstens {@code 2 · log2(n)} Knoten zusammen. Der Baum liegt
+ * wie ein Heap in zwei Arrays (Kinder von k sind 2k und 2k+1), ungenutzte Blätter sind 0 bzw. 1.
+ * <p>
+ * Knoten sind exakte {@link Bruch}-Werte, solange Zähler und Nenner höchstens {@value #GRENZE_BITS} Bit haben.
+ * Darüber wird ein Knoten zur {@link Teil#istExakt() Näherung} aus Vorzeichen und log2 des Betrags: Das
+ * exakte Produkt von 100 000 Zeilen hätte Millionen Bit, und jede Änderung müsste es über ggT und
+ * Multiplikation neu bilden. So bleibt jede Knotenoperation beschränkt und eine Änderung unter einer
+ * Millisekunde. Eine exakte 0 bleibt im Produkt exakt. Nicht threadsicher.
+ */
+final class BruchBaum {
+    /** Größte Bitlänge von Zähler oder Nenner, bis zu der ein Knoten exakt bleibt. */
+    static final int GRENZE_BITS = 1024;
+
+    private Teil[] summe;
+    private Teil[] produkt;
+    private int kapazitaet; // Anzahl Blätter, Zweierpotenz
+    private int groesse;
+
+    /**
+     * {@summary Erzeugt einen leeren Baum.}
+     *
+     * @param kapazitaet erwartete Anzahl Werte; der Baum wächst bei Bedarf
+     */
+    BruchBaum(int kapazitaet) {
+        neu(blaetter(kapazitaet));
+    }
+
+    /** @return Anzahl Werte */
+    int groesse() {
+        return groesse;
+    }
+
+    /** @return Wert an Position i */
+    Bruch get(int i) {
+        pruefe(i);
+        return summe[kapazitaet + i].exakt;
+    }
+
+    /**
+     * {@summary Ersetzt den Wert an Position i und aktualisiert die Knoten bis zur Wurzel.}
+     */
+    void set(int i, Bruch b) {
+        pruefe(i);
+        int k = kapazitaet + i;
+        summe[k] = produkt[k] = Teil.von(b);
+        aktualisiere(k);
+    }
+
+    /**
+     * {@summary Hängt einen Wert an; bei voller Kapazität wird der Baum in O(n) verdoppelt.}
+     */
+    void hinzufuegen(Bruch b) {
+        if (groesse == kapazitaet) {
+            Teil[] blaetter = Arrays.copyOfRange(summe, kapazitaet, kapazitaet + groesse);
+            neu(2 * kapazitaet);
+            System.arraycopy(blaetter, 0, summe, kapazitaet, groesse);
+            System.arraycopy(blaetter, 0, produkt, kapazitaet, groesse);
+            baue();
+        }
+        set(groesse++, b);
+    }
+
+    /**
+     * {@summary Entfernt den letzten Wert.}
+     *
+     * @throws IllegalStateException wenn der Baum leer ist
+     */
+    void entferneLetzten() {
+        if (groesse == 0) throw new IllegalStateException("Keine Werte");
+        int k = kapazitaet + --groesse;
+        summe[k] = Teil.NULL;
+        produkt[k] = Teil.EINS;
+        aktualisiere(k);
+    }
+
+    /**
+     * {@summary Ersetzt alle Werte und baut den Baum in O(n) von unten auf.}
+     *
+     * @param werte neue Werte
+     */
+    void setzeAlle(Bruch[] werte) {
+        neu(blaetter(werte.length));
+        for (int i = 0; i < werte.length; i++) summe[kapazitaet + i] = produkt[kapazitaet + i] = Teil.von(werte[i]);
+        groesse = werte.length;
+        baue();
+    }
+
+    /** @return Summe aller Werte, 0 wenn leer */
+    Teil summe() {
+        return summe[1];
+    }
+
+    /** @return Produkt aller Werte, 1 wenn leer */
+    Teil produkt() {
+        return produkt[1];
+    }
+
+    /**
+     * {@summary Summe der Werte {@code [0, i]}.}
+     */
+    Teil praefixSumme(int i) {
+        pruefe(i);
+        Teil links = Teil.NULL;
+        Teil rechts = Teil.NULL;
+        for (int l = kapazitaet, r = kapazitaet + i + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) != 0) links = links.plus(summe[l++]);
+            if ((r & 1) != 0) rechts = summe[--r].plus(rechts);
+        }
+        return links.plus(rechts);
+    }
+
+    /**
+     * {@summary Produkt der Werte {@code [0, i]}.}
+     */
+    Teil praefixProdukt(int i) {
+        pruefe(i);
+        Teil links = Teil.EINS;
+        Teil rechts = Teil.EINS;
+        for (int l = kapazitaet, r = kapazitaet + i + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) != 0) links = links.mal(produkt[l++]);
+            if ((r & 1) != 0) rechts = produkt[--r].mal(rechts);
+        }
+        return links.mal(rechts);
+    }
+
+    private void aktualisiere(int k) {
+        for (k >>= 1; k >= 1; k >>= 1) {
+            summe[k] = summe[2 * k].plus(summe[2 * k + 1]);
+            produkt[k] = produkt[2 * k].mal(produkt[2 * k + 1]);
+        }
+    }
+
+    private void baue() {
+        for (int k = kapazitaet - 1; k >= 1; k--) {
+            summe[k] = summe[2 * k].plus(summe[2 * k + 1]);
+            produkt[k] = produkt[2 * k].mal(produkt[2 * k + 1]);
+        }
+    }
+
+    private void neu(int blaetter) {
+        kapazitaet = blaetter;
+        summe = new Teil[2 * blaetter];
+        produkt = new Teil[2 * blaetter];
+        Arrays.fill(summe, Teil.NULL);
+        Arrays.fill(produkt, Teil.EINS);
+    }
+
+    private static int blaetter(int anzahl) {
+        return anzahl <= 1 ? 1 : Integer.highestOneBit(anzahl - 1) << 1;
+    }
+
+    private void pruefe(int i) {
+        if (i < 0 || i >= groesse) throw new IndexOutOfBoundsException("Zeile " + i + " von " + groesse);
+    }
+
+    /**
+     * {@summary Teilergebnis eines Knotens: exakter Bruch oder Näherung aus Vorzeichen und log2 des Betrags.}
+     */
+    static final class Teil {
+        static final Teil NULL = new Teil(Bruch.valueOf(0, 1), 0, 0);
+        static final Teil EINS = new Teil(Bruch.valueOf(1, 1), 1, 0);
+
+        private static final double LOG10_2 = Math.log10(2);
+
+        /** exakter Wert oder null bei einer Näherung */
+        private final Bruch exakt;
+        private final int vorzeichen;
+        private final double log2;
+
+        private Teil(Bruch exakt, int vorzeichen, double log2) {
+            this.exakt = exakt;
+            this.vorzeichen = vorzeichen;
+            this.log2 = log2;
+        }
+
+        static Teil von(Bruch b) {
+            return new Teil(b, b.bigZaehler().signum(), 0);
+        }
+
+        /** @return true, wenn {@link #exakt()} den Wert genau angibt */
+        boolean istExakt() {
+            return exakt != null;
+        }
+
+        /** @return exakter Wert oder null, wenn nur eine Näherung bekannt ist */
+        Bruch exakt() {
+            return exakt;
+        }
+
+        Teil plus(Teil t) {
+            if (exakt != null && t.exakt != null) {
+                if (exakt.bigZaehler().signum() == 0) return t;
+                if (t.exakt.bigZaehler().signum() == 0) return this;
+                if (klein(exakt) && klein(t.exakt)) return begrenzt(exakt.add(t.exakt));
+            }
+            int vz = vorzeichen();
+            int tvz = t.vorzeichen();
+            if (tvz == 0) return this;
+            if (vz == 0) return t;
+            double l = log2();
+            double tl = t.log2();
+            double m = Math.max(l, tl);
+            double s = vz * Math.pow(2, l - m) + tvz * Math.pow(2, tl - m);
+            if (s == 0) return new Teil(null, 0, 0);
+            return new Teil(null, s < 0 ? -1 : 1, m + Math.log(Math.abs(s)) / Math.log(2));
+        }
+
+        Teil mal(Teil t) {
+            if (vorzeichen() == 0 && exakt != null) return this;
+            if (t.vorzeichen() == 0 && t.exakt != null) return t;
+            if (exakt != null && t.exakt != null && klein(exakt) && klein(t.exakt)) {
+                return begrenzt(exakt.mul(t.exakt));
+            }
+            return new Teil(null, vorzeichen() * t.vorzeichen(), log2() + t.log2());
+        }
+
+        /**
+         * {@summary Text für die Anzeige: der Bruch oder {@code ≈ m·10^e} mit sechs Stellen.}
+         */
+        @Override
+        public String toString() {
+            if (exakt != null) return exakt.toString();
+            if (vorzeichen == 0) return "≈ 0";
+            double l10 = log2 * LOG10_2;
+            long e = (long) Math.floor(l10);
+            double m = Math.pow(10, l10 - e);
+            if (m >= 9.999995) {
+                m /= 10;
+                e++;
+            }
+            if (e >= -4 && e <= 9) return String.format("≈ %.6g", vorzeichen * m * Math.pow(10, e));
+            return String.format("≈ %s%.5f·10^%d", vorzeichen < 0 ? "-" : "", m, e);
+        }
+
+        private int vorzeichen() {
+            return exakt != null ? exakt.bigZaehler().signum() : vorzeichen;
+        }
+
+        /** log2 des Betrags; nur für Werte ungleich 0. */
+        private double log2() {
+            return exakt != null ? log2(exakt.bigZaehler().abs()) - log2(exakt.bigNenner()) : log2;
+        }
+
+        private static double log2(BigInteger x) {
+            int bits = x.bitLength();
+            if (bits <= 1000) return Math.log(x.doubleValue()) / Math.log(2);
+            return bits - 64 + Math.log(x.shiftRight(bits - 64).doubleValue()) / Math.log(2);
+        }
+
+        private static boolean klein(Bruch b) {
+            return !b.isGross() || (b.bigZaehler().bitLength() <= GRENZE_BITS && b.bigNenner().bitLength() <= GRENZE_BITS);
+        }
+
+        private static Teil begrenzt(Bruch b) {
+            Teil t = von(b);
+            return klein(b) ? t : new Teil(null, t.vorzeichen(), t.log2());
+        }
+    }
+}
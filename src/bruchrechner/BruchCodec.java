@@ -0,0 +1,242 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * {@summary Kompaktes Binärformat für einzelne Brüche und ganze {@link BruchSpalte}n.}
+ * Ein Bruch ist Nenner (Varint) gefolgt vom Zähler (ZigZag-Varint); kleine Werte wie 3/4 brauchen so
+ * zwei Bytes statt vier Zeichen plus Trenner. Ein Nenner 0 kündigt Werte außerhalb von long an, die als
+ * Länge und Zweierkomplement-Bytes von Zähler und Nenner folgen. Dasselbe Format nutzt {@link VerlaufsLog}.
+ * <p>
+ * Eine Spalte beginnt mit der Anzahl (Varint) und einem Modus-Byte. Im Modus {@link #PAARE} folgen die
+ * Werte einzeln wie oben. Im Modus {@link #LAEUFE} werden aufeinanderfolgende Werte mit gleichem Nenner
+ * zusammengefasst: Lauflänge, Nenner, dann nur noch die Zähler. Der Kodierer wählt den kürzeren Modus.
+ * <p>
+ * Gelesen und geschrieben wird direkt ab der aktuellen Position eines Heap- oder Direkt-Puffers, ohne
+ * Zwischenobjekte. Beschädigte Daten melden eine {@link IllegalStateException}, ein zu kurzer Puffer eine
+ * {@link java.nio.BufferUnderflowException} bzw. {@link java.nio.BufferOverflowException}.
+ */
+public final class BruchCodec {
+    /** Modus-Byte: jeder Wert mit eigenem Nenner. */
+    public static final int PAARE = 0;
+    /** Modus-Byte: Läufe gleicher Nenner teilen sich einen Nenner. */
+    public static final int LAEUFE = 1;
+
+    private BruchCodec() {}
+
+    /**
+     * {@summary Schreibt einen Bruch ab der aktuellen Position.}
+     *
+     * @param ziel Puffer mit mindestens {@link #laenge(Bruch)} freien Bytes
+     * @param b    Wert
+     */
+    public static void schreibe(ByteBuffer ziel, Bruch b) {
+        if (!b.isGross()) {
+            Varint.schreibe(ziel, b.getNenner());
+            Varint.schreibeMitVorzeichen(ziel, b.getZaehler());
+        } else if (b.bigZaehler().bitLength() < 64 && b.bigNenner().bitLength() < 64) {
+            Varint.schreibe(ziel, b.bigNenner().longValue());
+            Varint.schreibeMitVorzeichen(ziel, b.bigZaehler().longValue());
+        } else {
+            Varint.schreibe(ziel, 0);
+            schreibeBytes(ziel, b.bigZaehler().toByteArray());
+            schreibeBytes(ziel, b.bigNenner().toByteArray());
+        }
+    }
+
+    /**
+     * {@summary Liest einen mit {@link #schreibe(ByteBuffer, Bruch)} geschriebenen Bruch.}
+     *
+     * @param quelle Puffer ab dem Anfang des Werts
+     * @return gelesener Bruch
+     * @throws IllegalStateException bei beschädigten Daten, auch bei einem nicht gekürzten long-Wert wie 50/100
+     */
+    public static Bruch lies(ByteBuffer quelle) {
+        long n = Varint.lese(quelle);
+        if (n == 0) {
+            BigInteger z = new BigInteger(leseBytes(quelle));
+            BigInteger nn = new BigInteger(leseBytes(quelle));
+            if (nn.signum() <= 0) throw new IllegalStateException("Ungültiger Nenner");
+            return Bruch.of(z, nn);
+        }
+        if (n < 0) throw new IllegalStateException("Ungültiger Nenner");
+        long z = Varint.leseMitVorzeichen(quelle);
+        if (!gekuerzt(z, n)) throw new IllegalStateException("Ungekürzter Bruch");
+        return Bruch.ausGekuerzt(z, n);
+    }
+
+    /**
+     * {@summary Anzahl Bytes, die {@link #schreibe(ByteBuffer, Bruch)} für {@code b} schreibt.}
+     */
+    public static int laenge(Bruch b) {
+        if (!b.isGross()) return Varint.laenge(b.getNenner()) + Varint.laenge(Varint.zigZag(b.getZaehler()));
+        BigInteger z = b.bigZaehler();
+        BigInteger n = b.bigNenner();
+        if (z.bitLength() < 64 && n.bitLength() < 64) {
+            return Varint.laenge(n.longValue()) + Varint.laenge(Varint.zigZag(z.longValue()));
+        }
+        int lz = (z.bitLength() >> 3) + 1;
+        int ln = (n.bitLength() >> 3) + 1;
+        return 1 + Varint.laenge(lz) + lz + Varint.laenge(ln) + ln;
+    }
+
+    /**
+     * {@summary Schreibt eine ganze Spalte.}
+     *
+     * @see #schreibe(ByteBuffer, BruchSpalte, int, int)
+     */
+    public static void schreibe(ByteBuffer ziel, BruchSpalte s) {
+        schreibe(ziel, s, 0, s.laenge());
+    }
+
+    /**
+     * {@summary Schreibt die Werte {@code [von, bis)} einer Spalte im kürzeren der beiden Modi.}
+     *
+     * @param ziel Puffer mit mindestens {@link #laenge(BruchSpalte, int, int)} freien Bytes
+     * @param s    Quelle
+     * @param von  erster Index
+     * @param bis  Index hinter dem letzten Wert
+     * @throws ArithmeticException wenn ein Wert außerhalb des Bereichs liegt, den {@link #liesSpalte} annimmt;
+     *                             in diesem Fall wird nichts geschrieben
+     */
+    public static void schreibe(ByteBuffer ziel, BruchSpalte s, int von, int bis) {
+        for (int i = von; i < bis; i++) {
+            if (!speicherbar(s.zaehler(i), s.nenner(i))) {
+                throw new ArithmeticException("Überlauf in Spalte bei Index " + i);
+            }
+        }
+        Varint.schreibe(ziel, bis - von);
+        if (laengeLaeufe(s, von, bis) < laengePaare(s, von, bis)) {
+            ziel.put((byte) LAEUFE);
+            int i = von;
+            while (i < bis) {
+                long n = s.nenner(i);
+                int ende = i + 1;
+                while (ende < bis && s.nenner(ende) == n) ende++;
+                Varint.schreibe(ziel, ende - i);
+                Varint.schreibe(ziel, n);
+                for (; i < ende; i++) Varint.schreibeMitVorzeichen(ziel, s.zaehler(i));
+            }
+        } else {
+            ziel.put((byte) PAARE);
+            for (int i = von; i < bis; i++) {
+                Varint.schreibe(ziel, s.nenner(i));
+                Varint.schreibeMitVorzeichen(ziel, s.zaehler(i));
+            }
+        }
+    }
+
+    /**
+     * {@summary Anzahl Bytes, die {@link #schreibe(ByteBuffer, BruchSpalte, int, int)} schreibt.}
+     */
+    public static int laenge(BruchSpalte s, int von, int bis) {
+        return Varint.laenge(bis - von) + 1 + Math.min(laengePaare(s, von, bis), laengeLaeufe(s, von, bis));
+    }
+
+    /**
+     * {@summary Liest eine Spalte direkt in neue long-Arrays.}
+     *
+     * @param quelle Puffer ab dem Anfang der Spalte
+     * @return gelesene Spalte
+     * @throws IllegalStateException bei beschädigten Daten, nicht gekürzten Werten oder Werten außerhalb des
+     *                               Spaltenbereichs
+     */
+    public static BruchSpalte liesSpalte(ByteBuffer quelle) {
+        long anzahl = Varint.lese(quelle);
+        // jeder Wert braucht mindestens ein Byte, das begrenzt die Anzahl vor der Allokation
+        if (anzahl < 0 || anzahl > quelle.remaining()) throw new IllegalStateException("Ungültige Anzahl");
+        int laenge = (int) anzahl;
+        long[] z = new long[laenge];
+        long[] n = new long[laenge];
+        int modus = quelle.get();
+        if (modus == PAARE) {
+            for (int i = 0; i < laenge; i++) {
+                n[i] = pruefeNenner(Varint.lese(quelle));
+                z[i] = pruefeZaehler(Varint.leseMitVorzeichen(quelle), n[i]);
+            }
+        } else if (modus == LAEUFE) {
+            int i = 0;
+            while (i < laenge) {
+                long lauf = Varint.lese(quelle);
+                if (lauf <= 0 || lauf > laenge - i) throw new IllegalStateException("Ungültige Lauflänge");
+                long nenner = pruefeNenner(Varint.lese(quelle));
+                for (int ende = i + (int) lauf; i < ende; i++) {
+                    n[i] = nenner;
+                    z[i] = pruefeZaehler(Varint.leseMitVorzeichen(quelle), nenner);
+                }
+            }
+        } else {
+            throw new IllegalStateException("Unbekannter Modus " + modus);
+        }
+        return BruchSpalte.roh(z, n);
+    }
+
+    private static int laengePaare(BruchSpalte s, int von, int bis) {
+        int summe = 0;
+        for (int i = von; i < bis; i++) {
+            summe += Varint.laenge(s.nenner(i)) + Varint.laenge(Varint.zigZag(s.zaehler(i)));
+        }
+        return summe;
+    }
+
+    private static int laengeLaeufe(BruchSpalte s, int von, int bis) {
+        int summe = 0;
+        long vorher = 0;
+        int lauf = 0;
+        for (int i = von; i < bis; i++) {
+            long n = s.nenner(i);
+            if (n != vorher || lauf == 0) {
+                if (lauf > 0) summe += Varint.laenge(lauf) + Varint.laenge(vorher);
+                vorher = n;
+                lauf = 0;
+            }
+            lauf++;
+            summe += Varint.laenge(Varint.zigZag(s.zaehler(i)));
+        }
+        if (lauf > 0) summe += Varint.laenge(lauf) + Varint.laenge(vorher);
+        return summe;
+    }
+
+    /**
+     * {@summary Ob ein Spaltenwert gelesen werden kann: Zähler und Nenner betragsmäßig unter 2^62, Nenner positiv.}
+     * Dieselbe Grenze gilt in {@link BruchSpalte}; Schreiben und Lesen prüfen sie beide.
+     */
+    static boolean speicherbar(long z, long n) {
+        return n > 0 && n >>> 62 == 0 && Math.abs(z) >>> 62 == 0;
+    }
+
+    private static long pruefeNenner(long n) {
+        if (n <= 0 || n >>> 62 != 0) throw new IllegalStateException("Ungültiger Nenner");
+        return n;
+    }
+
+    /** Prüft den Zähler zu einem bereits geprüften Nenner; {@link BruchSpalte#roh} verlässt sich darauf. */
+    private static long pruefeZaehler(long z, long n) {
+        if (Math.abs(z) >>> 62 != 0) throw new IllegalStateException("Ungültiger Zähler");
+        if (Bruch.gcd(z, n) != 1) throw new IllegalStateException("Ungekürzter Bruch");
+        return z;
+    }
+
+    /**
+     * {@summary Ob {@code z/n} mit {@code n > 0} gekürzt ist; nur solche Werte erzeugen kanonische Brüche.}
+     * {@code Long.MIN_VALUE} liegt außerhalb von {@link Bruch#gcd(long, long)} und ist genau bei ungeradem
+     * Nenner teilerfremd.
+     */
+    private static boolean gekuerzt(long z, long n) {
+        return z == Long.MIN_VALUE ? (n & 1) != 0 : Bruch.gcd(z, n) == 1;
+    }
+
+    static void schreibeBytes(ByteBuffer buf, byte[] bytes) {
+        Varint.schreibe(buf, bytes.length);
+        buf.put(bytes);
+    }
+
+    static byte[] leseBytes(ByteBuffer buf) {
+        long laenge = Varint.lese(buf);
+        if (laenge <= 0 || laenge > buf.remaining()) throw new IllegalStateException("Ungültige Länge");
+        byte[] b = new byte[(int) laenge];
+        buf.get(b);
+        return b;
+    }
+}
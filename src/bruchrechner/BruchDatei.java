@@ -0,0 +1,308 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * {@summary Binärdatei mit Brüchen in Rahmen fester Größe und einem Index für wahlfreien Zugriff.}
+ * Aufbau (alle festen Zahlen Big-Endian):
+ * <pre>
+ * Kopf:    Magie "BRUC" · Version (1 Byte) · Werte je Rahmen (int)
+ * Rahmen:  Länge (int) · Spalte im {@link BruchCodec}-Format · CRC32 der Spalte (int)
+ * Index:   Anfang jedes Rahmens (long)
+ * Fuß:     Anfang des Index (long) · Anzahl Werte (long) · Anzahl Rahmen (int) · Magie "BRUC"
+ * </pre>
+ * Alle Rahmen außer dem letzten enthalten genau gleich viele Werte, der Rahmen eines Index ergibt sich
+ * daher durch Division. Der {@link Leser} blendet die Datei per Memory-Mapping ein und dekodiert direkt
+ * aus der Einblendung, ohne die Bytes zu kopieren. Zähler und Nenner müssen wie in einer {@link BruchSpalte}
+ * betragsmäßig unter 2^62 liegen; der Schreiber weist größere Werte ab, statt eine unlesbare Datei zu erzeugen.
+ */
+public final class BruchDatei {
+    /** Standardzahl der Werte je Rahmen. */
+    public static final int RAHMEN = 4096;
+
+    private static final int MAGIE = 0x42525543; // "BRUC"
+    private static final byte VERSION = 1;
+    private static final int KOPF = 4 + 1 + 4;
+    private static final int FUSS = 8 + 8 + 4 + 4;
+
+    private BruchDatei() {}
+
+    /**
+     * {@summary Legt eine Datei an (oder überschreibt sie) und liefert einen Schreiber mit {@value #RAHMEN} Werten je Rahmen.}
+     *
+     * @param datei Pfad
+     * @return Schreiber, muss geschlossen werden, damit Index und Fuß geschrieben werden
+     * @throws IOException wenn die Datei nicht angelegt werden kann
+     */
+    public static Schreiber schreiber(Path datei) throws IOException {
+        return new Schreiber(datei, RAHMEN);
+    }
+
+    /**
+     * {@summary Öffnet eine Datei zum Lesen.}
+     *
+     * @param datei Pfad
+     * @return Leser
+     * @throws IOException bei Lesefehlern oder wenn die Datei kein gültiges Format hat
+     */
+    public static Leser oeffne(Path datei) throws IOException {
+        return new Leser(datei);
+    }
+
+    /**
+     * {@summary Schreibt Brüche fortlaufend; volle Rahmen gehen sofort in die Datei.}
+     * Nicht threadsicher.
+     */
+    public static final class Schreiber implements AutoCloseable {
+        private final FileChannel kanal;
+        private final int rahmenGroesse;
+        private final long[] zaehler;
+        private final long[] nenner;
+        private final BruchSpalte rahmen;
+        private final ByteBuffer puffer;
+        private final CRC32 crc = new CRC32();
+        private long[] anfaenge = new long[16];
+        private int anzahlRahmen;
+        private int fuellung;
+        private long anzahl;
+        private long position;
+
+        Schreiber(Path datei, int rahmenGroesse) throws IOException {
+            if (rahmenGroesse < 1) throw new IllegalArgumentException("Rahmengröße muss positiv sein");
+            this.rahmenGroesse = rahmenGroesse;
+            zaehler = new long[rahmenGroesse];
+            nenner = new long[rahmenGroesse];
+            rahmen = BruchSpalte.roh(zaehler, nenner);
+            // größter Rahmen: Anzahl, Modus und je Wert zwei Varints, dazu Länge und CRC
+            puffer = ByteBuffer.allocateDirect(4 + Varint.MAX_BYTES + 1 + 2 * Varint.MAX_BYTES * rahmenGroesse + 4);
+            kanal = FileChannel.open(datei, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            ByteBuffer kopf = ByteBuffer.allocate(KOPF).putInt(MAGIE).put(VERSION).putInt(rahmenGroesse).flip();
+            schreibeVoll(kopf);
+        }
+
+        /**
+         * {@summary Hängt einen Wert an.}
+         *
+         * @param b Wert
+         * @return dieser Schreiber
+         * @throws ArithmeticException wenn Zähler oder Nenner von {@code b} betragsmäßig 2^62 erreichen
+         * @throws IOException         bei Schreibfehlern
+         */
+        public Schreiber schreibe(Bruch b) throws IOException {
+            if (b.isGross()) {
+                if (b.bigZaehler().abs().bitLength() > 62 || b.bigNenner().bitLength() > 62) {
+                    throw new ArithmeticException("Überlauf in Datei bei Index " + anzahl);
+                }
+                zaehler[fuellung] = b.bigZaehler().longValue();
+                nenner[fuellung] = b.bigNenner().longValue();
+            } else {
+                zaehler[fuellung] = b.getZaehler();
+                nenner[fuellung] = b.getNenner();
+            }
+            anzahl++;
+            if (++fuellung == rahmenGroesse) schreibeRahmen();
+            return this;
+        }
+
+        /**
+         * {@summary Hängt alle Werte einer Spalte an.}
+         *
+         * @param s Werte
+         * @return dieser Schreiber
+         * @throws ArithmeticException wenn ein Wert betragsmäßig 2^62 erreicht; dann wird nichts angehängt
+         * @throws IOException         bei Schreibfehlern
+         */
+        public Schreiber schreibe(BruchSpalte s) throws IOException {
+            for (int i = 0; i < s.laenge(); i++) {
+                if (!BruchCodec.speicherbar(s.zaehler(i), s.nenner(i))) {
+                    throw new ArithmeticException("Überlauf in Datei bei Index " + (anzahl + i));
+                }
+            }
+            for (int i = 0; i < s.laenge(); i++) {
+                zaehler[fuellung] = s.zaehler(i);
+                nenner[fuellung] = s.nenner(i);
+                if (++fuellung == rahmenGroesse) schreibeRahmen();
+            }
+            anzahl += s.laenge();
+            return this;
+        }
+
+        /**
+         * {@summary Schreibt den letzten Rahmen, Index und Fuß und schließt die Datei.}
+         *
+         * @throws IOException bei Schreibfehlern
+         */
+        @Override
+        public void close() throws IOException {
+            try (kanal) {
+                if (fuellung > 0) schreibeRahmen();
+                ByteBuffer index = ByteBuffer.allocate(8 * anzahlRahmen + FUSS);
+                for (int k = 0; k < anzahlRahmen; k++) index.putLong(anfaenge[k]);
+                index.putLong(position).putLong(anzahl).putInt(anzahlRahmen).putInt(MAGIE).flip();
+                schreibeVoll(index);
+            }
+        }
+
+        private void schreibeRahmen() throws IOException {
+            if (anzahlRahmen == anfaenge.length) anfaenge = Arrays.copyOf(anfaenge, anzahlRahmen * 2);
+            anfaenge[anzahlRahmen++] = position;
+            puffer.clear();
+            puffer.position(4);
+            BruchCodec.schreibe(puffer, rahmen, 0, fuellung);
+            int laenge = puffer.position() - 4;
+            crc.reset();
+            crc.update(puffer.duplicate().position(4).limit(4 + laenge));
+            puffer.putInt(0, laenge);
+            puffer.putInt((int) crc.getValue());
+            puffer.flip();
+            schreibeVoll(puffer);
+            fuellung = 0;
+        }
+
+        private void schreibeVoll(ByteBuffer buf) throws IOException {
+            while (buf.hasRemaining()) position += kanal.write(buf);
+        }
+    }
+
+    /**
+     * {@summary Liest eine Datei per Memory-Mapping; einzelne Werte, Rahmen oder alles.}
+     * Der zuletzt dekodierte Rahmen wird für {@link #get(long)} behalten. Nicht threadsicher.
+     */
+    public static final class Leser implements AutoCloseable {
+        private final FileChannel kanal;
+        private final ByteBuffer ganz; // null, wenn die Datei zu groß für eine Einblendung ist
+        private final long[] anfaenge;
+        private final long indexAnfang;
+        private final long anzahl;
+        private final int rahmenGroesse;
+        private final CRC32 crc = new CRC32();
+        private int letzterRahmen = -1;
+        private BruchSpalte letzte;
+
+        Leser(Path datei) throws IOException {
+            kanal = FileChannel.open(datei, StandardOpenOption.READ);
+            try {
+                long groesse = kanal.size();
+                if (groesse < KOPF + FUSS) throw new IOException("Keine Bruch-Datei: zu kurz");
+                ganz = groesse <= Integer.MAX_VALUE ? kanal.map(FileChannel.MapMode.READ_ONLY, 0, groesse) : null;
+                ByteBuffer kopf = bereich(0, KOPF);
+                if (kopf.getInt() != MAGIE || kopf.get() != VERSION) throw new IOException("Keine Bruch-Datei");
+                rahmenGroesse = kopf.getInt();
+                ByteBuffer fuss = bereich(groesse - FUSS, FUSS);
+                indexAnfang = fuss.getLong();
+                anzahl = fuss.getLong();
+                int anzahlRahmen = fuss.getInt();
+                if (fuss.getInt() != MAGIE || rahmenGroesse < 1 || anzahlRahmen < 0 || indexAnfang < KOPF
+                        || indexAnfang + 8L * anzahlRahmen != groesse - FUSS
+                        || anzahl > (long) anzahlRahmen * rahmenGroesse) {
+                    throw new IOException("Bruch-Datei ohne gültigen Index (nicht geschlossen?)");
+                }
+                ByteBuffer index = bereich(indexAnfang, 8 * anzahlRahmen);
+                anfaenge = new long[anzahlRahmen];
+                for (int k = 0; k < anzahlRahmen; k++) anfaenge[k] = index.getLong();
+            } catch (IOException | RuntimeException ex) {
+                kanal.close();
+                throw ex;
+            }
+        }
+
+        /** @return Anzahl der Werte */
+        public long anzahl() {
+            return anzahl;
+        }
+
+        /** @return Anzahl der Rahmen */
+        public int anzahlRahmen() {
+            return anfaenge.length;
+        }
+
+        /**
+         * {@summary Liest einen Wert über den Index.}
+         *
+         * @param i Index
+         * @return Wert an Position {@code i}
+         * @throws IndexOutOfBoundsException wenn {@code i} außerhalb liegt
+         * @throws IOException               bei Lesefehlern oder beschädigtem Rahmen
+         */
+        public Bruch get(long i) throws IOException {
+            if (i < 0 || i >= anzahl) throw new IndexOutOfBoundsException("Index " + i + ", Anzahl " + anzahl);
+            int k = (int) (i / rahmenGroesse);
+            if (k != letzterRahmen) {
+                letzte = rahmen(k);
+                letzterRahmen = k;
+            }
+            return letzte.get((int) (i % rahmenGroesse));
+        }
+
+        /**
+         * {@summary Dekodiert einen Rahmen nach Prüfung seiner CRC.}
+         *
+         * @param k Rahmennummer
+         * @return Werte des Rahmens
+         * @throws IOException bei Lesefehlern oder beschädigtem Rahmen
+         */
+        public BruchSpalte rahmen(int k) throws IOException {
+            long anfang = anfaenge[k];
+            long ende = k + 1 < anfaenge.length ? anfaenge[k + 1] : indexAnfang;
+            if (ende - anfang < 8 || ende - anfang > Integer.MAX_VALUE) throw beschaedigt(k);
+            ByteBuffer buf = bereich(anfang, (int) (ende - anfang));
+            int laenge = buf.getInt();
+            if (laenge != buf.remaining() - 4) throw beschaedigt(k);
+            ByteBuffer daten = buf.slice(4, laenge);
+            crc.reset();
+            crc.update(daten.duplicate());
+            if ((int) crc.getValue() != buf.getInt(4 + laenge)) throw beschaedigt(k);
+            try {
+                return BruchCodec.liesSpalte(daten);
+            } catch (RuntimeException ex) {
+                throw new IOException("Rahmen " + k + " beschädigt", ex);
+            }
+        }
+
+        /**
+         * {@summary Liest alle Werte in eine Spalte.}
+         *
+         * @return Spalte mit allen Werten in Dateireihenfolge
+         * @throws IOException bei Lesefehlern oder beschädigtem Rahmen
+         */
+        public BruchSpalte alle() throws IOException {
+            if (anzahl > Integer.MAX_VALUE - 8) throw new IOException("Zu viele Werte für eine Spalte: " + anzahl);
+            long[] z = new long[(int) anzahl];
+            long[] n = new long[(int) anzahl];
+            int pos = 0;
+            for (int k = 0; k < anfaenge.length; k++) {
+                BruchSpalte r = rahmen(k);
+                if (pos + r.laenge() > z.length) throw beschaedigt(k);
+                for (int i = 0; i < r.laenge(); i++, pos++) {
+                    z[pos] = r.zaehler(i);
+                    n[pos] = r.nenner(i);
+                }
+            }
+            if (pos != z.length) throw new IOException("Anzahl im Fuß passt nicht zu den Rahmen");
+            return BruchSpalte.roh(z, n);
+        }
+
+        @Override
+        public void close() throws IOException {
+            kanal.close();
+        }
+
+        /** Ausschnitt der Einblendung, bei sehr großen Dateien eine eigene Einblendung des Bereichs. */
+        private ByteBuffer bereich(long anfang, int laenge) throws IOException {
+            if (ganz != null) return ganz.slice((int) anfang, laenge).order(ByteOrder.BIG_ENDIAN);
+            return kanal.map(FileChannel.MapMode.READ_ONLY, anfang, laenge);
+        }
+
+        private static IOException beschaedigt(int k) {
+            return new IOException("Rahmen " + k + " beschädigt");
+        }
+    }
+}
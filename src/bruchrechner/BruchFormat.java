@@ -0,0 +1,250 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@summary Schreibt Zähler/Nenner-Paare ohne Zwischen-Strings in StringBuilder, Appendable oder ByteBuffer.}
+ * Die Schreibweisen sind dieselben wie {@link Bruch#toString()} ({@code z} oder {@code z/n}) und
+ * {@link Bruch#toMixedString()} ({@code g r/n}, {@code -r/n} oder {@code g}); der ganze Anteil wird wie dort
+ * zur 0 hin abgeschnitten. Ziffern werden direkt als ASCII geschrieben. Erwartet gekürzte Werte mit {@code n > 0}.
+ * Zähler und ganzer Anteil dürfen {@link Long#MIN_VALUE} sein; der Rest {@code |z % n|} ist kleiner als
+ * {@code n} und lässt sich daher immer gefahrlos mit {@link Math#abs(long)} bilden.
+ */
+final class BruchFormat {
+    /** Höchstlänge einer Zeile {@code g r/n} aus drei long-Zahlen samt Trennzeichen und Zeilenende. */
+    static final int MAX_LONG_LAENGE = 3 * 20 + 3;
+
+    private static final String LONG_MIN = Long.toString(Long.MIN_VALUE);
+    private static final byte[] ZWEISTELLIG = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            ZWEISTELLIG[2 * i] = (byte) ('0' + i / 10);
+            ZWEISTELLIG[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private BruchFormat() {}
+
+    static StringBuilder bruch(long z, long n, StringBuilder sb) {
+        sb.append(z);
+        if (n != 1) sb.append('/').append(n);
+        return sb;
+    }
+
+    static StringBuilder gemischt(long z, long n, StringBuilder sb) {
+        long ganz = z / n;
+        long rest = Math.abs(z % n);
+        if (rest == 0) return sb.append(ganz);
+        if (ganz == 0) {
+            if (z < 0) sb.append('-');
+        } else {
+            sb.append(ganz).append(' ');
+        }
+        return sb.append(rest).append('/').append(n);
+    }
+
+    static void bruch(long z, long n, Appendable a) throws IOException {
+        zahl(z, a);
+        if (n != 1) {
+            a.append('/');
+            zahl(n, a);
+        }
+    }
+
+    static void gemischt(long z, long n, Appendable a) throws IOException {
+        long ganz = z / n;
+        long rest = Math.abs(z % n);
+        if (rest == 0) {
+            zahl(ganz, a);
+            return;
+        }
+        if (ganz == 0) {
+            if (z < 0) a.append('-');
+        } else {
+            zahl(ganz, a);
+            a.append(' ');
+        }
+        zahl(rest, a);
+        a.append('/');
+        zahl(n, a);
+    }
+
+    static void bruch(long z, long n, ByteBuffer buf) {
+        int laenge = n == 1 ? stellen(z) : stellen(z) + 1 + stellen(n);
+        if (buf.remaining() < laenge) throw new BufferOverflowException();
+        if (!buf.hasArray()) {
+            zahl(z, buf);
+            if (n != 1) {
+                buf.put((byte) '/');
+                zahl(n, buf);
+            }
+            return;
+        }
+        byte[] a = buf.array();
+        int p = buf.arrayOffset() + buf.position();
+        p = zahl(z, a, p);
+        if (n != 1) {
+            a[p++] = '/';
+            zahl(n, a, p);
+        }
+        buf.position(buf.position() + laenge);
+    }
+
+    static void gemischt(long z, long n, ByteBuffer buf) {
+        long ganz = z / n;
+        long rest = Math.abs(z % n);
+        if (rest == 0) {
+            bruch(ganz, 1, buf);
+            return;
+        }
+        int laenge = (ganz == 0 ? (z < 0 ? 1 : 0) : stellen(ganz) + 1) + stellen(rest) + 1 + stellen(n);
+        if (buf.remaining() < laenge) throw new BufferOverflowException();
+        if (!buf.hasArray()) {
+            if (ganz != 0) {
+                zahl(ganz, buf);
+                buf.put((byte) ' ');
+            } else if (z < 0) {
+                buf.put((byte) '-');
+            }
+            zahl(rest, buf);
+            buf.put((byte) '/');
+            zahl(n, buf);
+            return;
+        }
+        byte[] a = buf.array();
+        int p = buf.arrayOffset() + buf.position();
+        if (ganz != 0) {
+            p = zahl(ganz, a, p);
+            a[p++] = ' ';
+        } else if (z < 0) {
+            a[p++] = '-';
+        }
+        p = zahl(rest, a, p);
+        a[p++] = '/';
+        zahl(n, a, p);
+        buf.position(buf.position() + laenge);
+    }
+
+    /**
+     * {@summary BigInteger-Fall: wie {@link Bruch#toString()}, über die Dezimaltexte von Zähler und Nenner.}
+     */
+    static StringBuilder bruch(BigInteger z, BigInteger n, StringBuilder sb) {
+        sb.append(z);
+        if (!n.equals(BigInteger.ONE)) sb.append('/').append(n);
+        return sb;
+    }
+
+    /**
+     * {@summary BigInteger-Fall: wie {@link Bruch#toMixedString()}.}
+     */
+    static StringBuilder gemischt(BigInteger z, BigInteger n, StringBuilder sb) {
+        BigInteger[] qr = z.divideAndRemainder(n);
+        BigInteger rest = qr[1].abs();
+        if (rest.signum() == 0) return sb.append(qr[0]);
+        if (qr[0].signum() == 0) {
+            if (z.signum() < 0) sb.append('-');
+        } else {
+            sb.append(qr[0]).append(' ');
+        }
+        return sb.append(rest).append('/').append(n);
+    }
+
+    /**
+     * {@summary Schreibt ASCII-Text (nur Ziffern und Trennzeichen) byteweise.}
+     */
+    static void ascii(CharSequence s, ByteBuffer buf) {
+        for (int i = 0; i < s.length(); i++) buf.put((byte) s.charAt(i));
+    }
+
+    /**
+     * {@summary Dezimalziffern von {@code v} von vorne nach hinten, ohne Puffer.}
+     */
+    private static void zahl(long v, Appendable a) throws IOException {
+        if (v < 0) {
+            if (v == Long.MIN_VALUE) {
+                a.append(LONG_MIN);
+                return;
+            }
+            a.append('-');
+            v = -v;
+        }
+        long p = 1;
+        while (p <= v / 10) p *= 10;
+        for (; p > 0; p /= 10) {
+            a.append((char) ('0' + v / p));
+            v %= p;
+        }
+    }
+
+    /**
+     * {@summary Dezimalziffern von {@code v} paarweise von hinten ab {@code pos} in ein Array.}
+     * Im int-Bereich wird mit int gerechnet, was die Divisionen deutlich verbilligt.
+     *
+     * @return Position hinter der letzten Ziffer
+     */
+    private static int zahl(long v, byte[] ziel, int pos) {
+        if (v == Long.MIN_VALUE) {
+            for (int k = 0; k < LONG_MIN.length(); k++) ziel[pos++] = (byte) LONG_MIN.charAt(k);
+            return pos;
+        }
+        int ende = pos + stellen(v);
+        int i = ende;
+        long rest = Math.abs(v);
+        while (rest > Integer.MAX_VALUE) {
+            int paar = (int) (rest % 100);
+            rest /= 100;
+            ziel[--i] = ZWEISTELLIG[2 * paar + 1];
+            ziel[--i] = ZWEISTELLIG[2 * paar];
+        }
+        int r = (int) rest;
+        while (r >= 100) {
+            int paar = r % 100;
+            r /= 100;
+            ziel[--i] = ZWEISTELLIG[2 * paar + 1];
+            ziel[--i] = ZWEISTELLIG[2 * paar];
+        }
+        if (r >= 10) {
+            ziel[--i] = ZWEISTELLIG[2 * r + 1];
+            ziel[--i] = ZWEISTELLIG[2 * r];
+        } else {
+            ziel[--i] = (byte) ('0' + r);
+        }
+        if (v < 0) ziel[--i] = '-';
+        return ende;
+    }
+
+    /**
+     * {@summary Dezimalziffern von {@code v} in einen Puffer ohne zugängliches Array (z. B. direkt).}
+     * Der Platz ist vom Aufrufer geprüft.
+     */
+    private static void zahl(long v, ByteBuffer buf) {
+        if (v == Long.MIN_VALUE) {
+            ascii(LONG_MIN, buf);
+            return;
+        }
+        if (v < 0) {
+            buf.put((byte) '-');
+            v = -v;
+        }
+        long p = 1;
+        while (p <= v / 10) p *= 10;
+        for (; p > 0; p /= 10) {
+            buf.put((byte) ('0' + v / p));
+            v %= p;
+        }
+    }
+
+    /** @return Anzahl der Zeichen von {@code v} inklusive Minuszeichen */
+    private static int stellen(long v) {
+        if (v == Long.MIN_VALUE) return LONG_MIN.length(); // Math.abs wäre hier negativ
+        int vorzeichen = v < 0 ? 1 : 0;
+        long a = Math.abs(v);
+        int s = 1;
+        for (long p = 10; s < 19 && a >= p; p *= 10) s++;
+        return s + vorzeichen;
+    }
+}
@@ -0,0 +1,126 @@
+package bruchrechner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@summary Unveränderlicher, sortierter Index über eine Menge von Brüchen mit logarithmischen Abfragen.}
+ * Einmal sortiert, beantworten Binärsuchen Bereichs-, Rang- und Nächster-Wert-Abfragen in O(log n)
+ * statt mit einem linearen Durchlauf. Duplikate bleiben erhalten.
+ */
+public final class BruchIndex {
+    private final Bruch[] werte;
+
+    /**
+     * {@summary Baut den Index aus einer Sammlung.}
+     *
+     * @param brueche Werte, werden kopiert und sortiert
+     */
+    public BruchIndex(Collection<Bruch> brueche) {
+        this.werte = brueche.toArray(new Bruch[0]);
+        Arrays.parallelSort(werte);
+    }
+
+    /**
+     * {@summary Baut den Index aus einem Array.}
+     *
+     * @param brueche Werte, werden kopiert und sortiert
+     */
+    public BruchIndex(Bruch... brueche) {
+        this.werte = brueche.clone();
+        Arrays.parallelSort(werte);
+    }
+
+    /** @return Anzahl der Werte */
+    public int groesse() {
+        return werte.length;
+    }
+
+    /**
+     * {@summary Wert an einer Rangposition.}
+     *
+     * @param rang 0 für den kleinsten Wert
+     * @return Wert mit diesem Rang
+     */
+    public Bruch get(int rang) {
+        return werte[rang];
+    }
+
+    /**
+     * {@summary Anzahl der Werte, die echt kleiner als {@code x} sind.}
+     *
+     * @param x Vergleichswert
+     * @return Rang von {@code x}
+     */
+    public int rang(Bruch x) {
+        return untereGrenze(x);
+    }
+
+    /**
+     * {@summary Alle Werte im geschlossenen Bereich {@code [von, bis]} in aufsteigender Reihenfolge.}
+     *
+     * @param von untere Grenze (inklusive)
+     * @param bis obere Grenze (inklusive)
+     * @return unveränderliche Sicht auf den Bereich, leer wenn {@code von > bis}
+     */
+    public List<Bruch> bereich(Bruch von, Bruch bis) {
+        int a = untereGrenze(von);
+        int b = obereGrenze(bis);
+        if (a >= b) return Collections.emptyList();
+        return Collections.unmodifiableList(Arrays.asList(werte).subList(a, b));
+    }
+
+    /**
+     * {@summary Anzahl der Werte im geschlossenen Bereich {@code [von, bis]}, ohne sie aufzuzählen.}
+     *
+     * @param von untere Grenze (inklusive)
+     * @param bis obere Grenze (inklusive)
+     * @return Anzahl
+     */
+    public int anzahlImBereich(Bruch von, Bruch bis) {
+        return Math.max(0, obereGrenze(bis) - untereGrenze(von));
+    }
+
+    /**
+     * {@summary Wert mit dem kleinsten Abstand zu {@code x}; bei Gleichstand der kleinere.}
+     *
+     * @param x gesuchter Wert
+     * @return nächstgelegener Wert
+     * @throws IllegalStateException wenn der Index leer ist
+     */
+    public Bruch naechster(Bruch x) {
+        if (werte.length == 0) throw new IllegalStateException("Index ist leer");
+        int i = untereGrenze(x);
+        if (i == werte.length) return werte[i - 1];
+        if (i == 0 || werte[i].equals(x)) return werte[i];
+        Bruch unten = werte[i - 1];
+        Bruch oben = werte[i];
+        return oben.sub(x).compareTo(x.sub(unten)) < 0 ? oben : unten;
+    }
+
+    /** Erster Index mit {@code werte[i] >= x}. */
+    private int untereGrenze(Bruch x) {
+        int lo = 0;
+        int hi = werte.length;
+        while (lo < hi) {
+            int mitte = (lo + hi) >>> 1;
+            if (werte[mitte].compareTo(x) < 0) lo = mitte + 1;
+            else hi = mitte;
+        }
+        return lo;
+    }
+
+    /** Erster Index mit {@code werte[i] > x}. */
+    private int obereGrenze(Bruch x) {
+        int lo = 0;
+        int hi = werte.length;
+        while (lo < hi) {
+            int mitte = (lo + hi) >>> 1;
+            if (werte[mitte].compareTo(x) <= 0) lo = mitte + 1;
+            else hi = mitte;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,443 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * {@summary Unveränderliche Matrix aus Brüchen mit exakter Determinante, Inverse, Rang und Gleichungslösung.}
+ * Gerechnet wird nicht mit {@link Bruch#add}/{@link Bruch#mul}/{@link Bruch#div}, sondern bruchfrei nach
+ * Bareiss: Jede Zeile wird mit dem kgV ihrer Nenner zu ganzen Zahlen skaliert, danach lautet jeder
+ * Eliminationsschritt {@code a[i][j] = (p * a[i][j] - a[i][k] * a[k][j]) / p_vorher} mit exakt aufgehender
+ * Division. Die Zwischenwerte sind Unterdeterminanten der Ausgangsmatrix und wachsen damit nur linear in
+ * der Stellenzahl, ohne ggT-Berechnung je Operation. Erst das Ergebnis wird zu gekürzten Brüchen.
+ * <p>
+ * Zuerst wird mit long und Überlaufprüfung gerechnet; läuft ein Wert über, beginnt die Elimination neu mit
+ * BigInteger. Bei großen Matrizen werden im BigInteger-Pfad die Zeilen eines Schritts per Fork/Join auf alle
+ * Kerne verteilt; der long-Pfad rechnet sequenziell, seine Schritte sind für eine Aufteilung zu billig.
+ * Für Lösung und Inverse wird die rechte Seite mit eliminiert und danach bruchfrei rückwärts eingesetzt:
+ * Mit der Determinante d der skalierten Matrix ist {@code d * x} nach der Cramerschen Regel ganzzahlig, jede
+ * Division beim Einsetzen geht also ebenfalls auf. Die Spalten der Inversen werden parallel eingesetzt.
+ */
+public final class BruchMatrix {
+    /**
+     * Mindestanzahl Einträge, die ein Eliminationsschritt aktualisieren muss, bevor er die Zeilen parallel
+     * bearbeitet; zugleich die Größe der Teilaufgaben.
+     */
+    static final int PARALLEL_SCHWELLE = 1 << 12;
+
+    private static final Bruch NULL = Bruch.valueOf(0, 1);
+    private static final Bruch EINS = Bruch.valueOf(1, 1);
+
+    private final int zeilen;
+    private final int spalten;
+    private final Bruch[] werte; // zeilenweise
+
+    private BruchMatrix(int zeilen, int spalten, Bruch[] werte) {
+        this.zeilen = zeilen;
+        this.spalten = spalten;
+        this.werte = werte;
+    }
+
+    /**
+     * {@summary Erzeugt eine Matrix aus Zeilen gleicher Länge.}
+     *
+     * @param zeilen Einträge, werden kopiert
+     * @return neue Matrix
+     * @throws IllegalArgumentException bei leerer Matrix oder unterschiedlich langen Zeilen
+     */
+    public static BruchMatrix of(Bruch[][] zeilen) {
+        if (zeilen.length == 0 || zeilen[0].length == 0) throw new IllegalArgumentException("Leere Matrix");
+        int m = zeilen.length;
+        int n = zeilen[0].length;
+        Bruch[] w = new Bruch[m * n];
+        for (int i = 0; i < m; i++) {
+            if (zeilen[i].length != n) throw new IllegalArgumentException("Zeile " + i + " hat falsche Länge");
+            for (int j = 0; j < n; j++) w[i * n + j] = Objects.requireNonNull(zeilen[i][j]);
+        }
+        return new BruchMatrix(m, n, w);
+    }
+
+    /**
+     * {@summary Einheitsmatrix der Größe n × n.}
+     *
+     * @param n Anzahl Zeilen und Spalten, mindestens 1
+     * @return Einheitsmatrix
+     */
+    public static BruchMatrix einheit(int n) {
+        if (n < 1) throw new IllegalArgumentException("Leere Matrix");
+        Bruch[] w = new Bruch[n * n];
+        Arrays.fill(w, NULL);
+        for (int i = 0; i < n; i++) w[i * n + i] = EINS;
+        return new BruchMatrix(n, n, w);
+    }
+
+    /** @return Anzahl Zeilen */
+    public int zeilen() {
+        return zeilen;
+    }
+
+    /** @return Anzahl Spalten */
+    public int spalten() {
+        return spalten;
+    }
+
+    /**
+     * {@summary Eintrag in Zeile i, Spalte j (ab 0).}
+     */
+    public Bruch get(int i, int j) {
+        if (i < 0 || i >= zeilen || j < 0 || j >= spalten) {
+            throw new IndexOutOfBoundsException("(" + i + ", " + j + ") außerhalb von " + zeilen + " × " + spalten);
+        }
+        return werte[i * spalten + j];
+    }
+
+    /**
+     * {@summary Determinante einer quadratischen Matrix.}
+     *
+     * @return exakte Determinante
+     * @throws IllegalArgumentException wenn die Matrix nicht quadratisch ist
+     */
+    public Bruch determinante() {
+        quadratisch();
+        Ganzzahlig g = skaliert(0, null);
+        Stufen s = g.eliminiere(spalten);
+        if (s.rang < zeilen) return NULL;
+        // det(A) = det(skaliert) / Produkt der Zeilenfaktoren
+        BigInteger det = s.diagonale(zeilen - 1);
+        BigInteger faktoren = BigInteger.ONE;
+        for (BigInteger f : g.faktoren) faktoren = faktoren.multiply(f);
+        return Bruch.of(s.vorzeichen < 0 ? det.negate() : det, faktoren);
+    }
+
+    /**
+     * {@summary Rang der Matrix, auch für nicht quadratische Matrizen.}
+     */
+    public int rang() {
+        return skaliert(0, null).eliminiere(spalten).rang;
+    }
+
+    /**
+     * {@summary Inverse einer quadratischen Matrix.}
+     *
+     * @return Inverse
+     * @throws IllegalArgumentException wenn die Matrix nicht quadratisch ist
+     * @throws ArithmeticException wenn die Matrix singulär ist
+     */
+    public BruchMatrix inverse() {
+        quadratisch();
+        return new BruchMatrix(zeilen, zeilen, loeseGanz(skaliert(zeilen, null)));
+    }
+
+    /**
+     * {@summary Löst {@code A · x = b} für eine quadratische, reguläre Matrix A.}
+     *
+     * @param b rechte Seite mit {@link #zeilen()} Einträgen
+     * @return eindeutige Lösung x
+     * @throws IllegalArgumentException wenn die Matrix nicht quadratisch ist oder b die falsche Länge hat
+     * @throws ArithmeticException wenn die Matrix singulär ist
+     */
+    public Bruch[] loese(Bruch... b) {
+        quadratisch();
+        if (b.length != zeilen) throw new IllegalArgumentException("Rechte Seite braucht " + zeilen + " Einträge");
+        return loeseGanz(skaliert(1, b));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BruchMatrix && ((BruchMatrix) o).zeilen == zeilen
+                && Arrays.equals(((BruchMatrix) o).werte, werte);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * zeilen + Arrays.hashCode(werte);
+    }
+
+    /**
+     * {@summary Zeilen durch Zeilenumbrüche, Einträge durch Tabulatoren getrennt.}
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < zeilen; i++) {
+            for (int j = 0; j < spalten; j++) {
+                if (j > 0) sb.append('\t');
+                werte[i * spalten + j].formatTo(sb);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private void quadratisch() {
+        if (zeilen != spalten) throw new IllegalArgumentException("Matrix ist nicht quadratisch: " + zeilen + " × " + spalten);
+    }
+
+    /**
+     * {@summary Eliminiert {@code [A | rechts]} und setzt für jede rechte Spalte rückwärts ein.}
+     * Aus der oberen Dreiecksform U mit rechter Seite c und {@code d = U[n-1][n-1]} ergibt sich
+     * {@code y[i] = (d * c[i] - Σ U[i][j] * y[j]) / U[i][i]} für j > i, und {@code x = y / d}.
+     */
+    private Bruch[] loeseGanz(Ganzzahlig g) {
+        Stufen s = g.eliminiere(spalten);
+        if (s.rang < zeilen) throw new ArithmeticException("Matrix ist singulär");
+        int n = zeilen;
+        int rechts = g.spalten - spalten;
+        BigInteger[][] u = s.a;
+        BigInteger d = u[n - 1][n - 1];
+        Bruch[] x = new Bruch[n * rechts];
+        IntStream spaltenweise = IntStream.range(0, rechts);
+        if ((long) rechts * n * n >= PARALLEL_SCHWELLE) spaltenweise = spaltenweise.parallel();
+        spaltenweise.forEach(j -> {
+            BigInteger[] y = new BigInteger[n];
+            for (int i = n - 1; i >= 0; i--) {
+                BigInteger summe = d.multiply(u[i][n + j]);
+                for (int k = i + 1; k < n; k++) {
+                    if (u[i][k].signum() != 0) summe = summe.subtract(u[i][k].multiply(y[k]));
+                }
+                y[i] = summe.divide(u[i][i]);
+                x[i * rechts + j] = Bruch.of(y[i], d);
+            }
+        });
+        return x;
+    }
+
+    /**
+     * {@summary Skaliert jede Zeile (samt angehängter rechter Seite) mit dem kgV ihrer Nenner auf ganze Zahlen.}
+     *
+     * @param rechts Anzahl angehängter Spalten: 0, 1 für {@code b} oder {@link #zeilen} für die Einheitsmatrix
+     * @param b      rechte Seite oder null
+     */
+    private Ganzzahlig skaliert(int rechts, Bruch[] b) {
+        int breite = spalten + rechts;
+        Bruch[] zeile = new Bruch[breite];
+        Ganzzahlig g = new Ganzzahlig(zeilen, breite);
+        for (int i = 0; i < zeilen; i++) {
+            System.arraycopy(werte, i * spalten, zeile, 0, spalten);
+            if (b != null) {
+                zeile[spalten] = b[i];
+            } else if (rechts > 0) {
+                Arrays.fill(zeile, spalten, breite, NULL);
+                zeile[spalten + i] = EINS;
+            }
+            g.setzeZeile(i, zeile);
+        }
+        return g;
+    }
+
+    /**
+     * {@summary Ganzzahlige Kopie der Matrix mit den Zeilenfaktoren; long, solange alles hineinpasst.}
+     */
+    private static final class Ganzzahlig {
+        final int zeilen;
+        final int spalten;
+        final BigInteger[] faktoren;
+        final BigInteger[][] gross;
+        long[][] klein;
+
+        Ganzzahlig(int zeilen, int spalten) {
+            this.zeilen = zeilen;
+            this.spalten = spalten;
+            this.faktoren = new BigInteger[zeilen];
+            this.gross = new BigInteger[zeilen][spalten];
+            this.klein = new long[zeilen][spalten];
+        }
+
+        void setzeZeile(int i, Bruch[] zeile) {
+            long kgv = 1;
+            boolean passt = klein != null;
+            for (int j = 0; passt && j < spalten; j++) {
+                if (zeile[j].isGross()) {
+                    passt = false;
+                } else {
+                    long n = zeile[j].getNenner();
+                    long teil = kgv / Bruch.gcd(kgv, n);
+                    if (Math.multiplyHigh(teil, n) != 0 || teil * n < 0) passt = false;
+                    else kgv = teil * n;
+                }
+            }
+            if (passt) {
+                for (int j = 0; passt && j < spalten; j++) {
+                    long f = kgv / zeile[j].getNenner();
+                    long z = zeile[j].getZaehler();
+                    long w = z * f;
+                    if (Math.multiplyHigh(z, f) != w >> 63) passt = false;
+                    klein[i][j] = w;
+                }
+            }
+            if (passt) {
+                faktoren[i] = BigInteger.valueOf(kgv);
+                for (int j = 0; j < spalten; j++) gross[i][j] = BigInteger.valueOf(klein[i][j]);
+                return;
+            }
+            klein = null;
+            BigInteger k = BigInteger.ONE;
+            for (int j = 0; j < spalten; j++) {
+                BigInteger n = zeile[j].bigNenner();
+                k = k.divide(k.gcd(n)).multiply(n);
+            }
+            faktoren[i] = k;
+            for (int j = 0; j < spalten; j++) {
+                gross[i][j] = zeile[j].bigZaehler().multiply(k.divide(zeile[j].bigNenner()));
+            }
+        }
+
+        /**
+         * {@summary Bareiss-Elimination über die ersten {@code links} Spalten; mit long, wenn möglich.}
+         *
+         * @param links  Spalten, in denen Pivots gesucht werden
+         */
+        Stufen eliminiere(int links) {
+            if (klein != null) {
+                long[][] a = new long[zeilen][];
+                for (int i = 0; i < zeilen; i++) a[i] = klein[i].clone();
+                Stufen s = eliminiereKlein(a, links);
+                if (s != null) return s;
+            }
+            BigInteger[][] a = new BigInteger[zeilen][];
+            for (int i = 0; i < zeilen; i++) a[i] = gross[i].clone();
+            return eliminiereGross(a, links);
+        }
+
+        /** @return Stufenform oder null, wenn ein Zwischenwert nicht in long passt; läuft immer sequenziell */
+        private Stufen eliminiereKlein(long[][] a, int links) {
+            int[] pivotSpalte = new int[zeilen];
+            int vorzeichen = 1;
+            long vorher = 1;
+            int r = 0;
+            try {
+                for (int k = 0; k < links && r < zeilen; k++) {
+                    int p = r;
+                    while (p < zeilen && a[p][k] == 0) p++;
+                    if (p == zeilen) continue;
+                    if (p != r) {
+                        long[] t = a[p];
+                        a[p] = a[r];
+                        a[r] = t;
+                        vorzeichen = -vorzeichen;
+                    }
+                    long[] pz = a[r];
+                    long pivot = pz[k];
+                    for (int i = r + 1; i < zeilen; i++) {
+                        long[] zi = a[i];
+                        long aik = zi[k];
+                        for (int j = k + 1; j < spalten; j++) {
+                            zi[j] = Math.subtractExact(Math.multiplyExact(pivot, zi[j]),
+                                    Math.multiplyExact(aik, pz[j])) / vorher;
+                        }
+                        zi[k] = 0;
+                    }
+                    pivotSpalte[r++] = k;
+                    vorher = pivot;
+                }
+            } catch (ArithmeticException ueberlauf) {
+                return null;
+            }
+            BigInteger[][] g = new BigInteger[zeilen][spalten];
+            for (int i = 0; i < zeilen; i++) {
+                for (int j = 0; j < spalten; j++) g[i][j] = BigInteger.valueOf(a[i][j]);
+            }
+            return new Stufen(g, pivotSpalte, r, vorzeichen);
+        }
+
+        private Stufen eliminiereGross(BigInteger[][] a, int links) {
+            int[] pivotSpalte = new int[zeilen];
+            int vorzeichen = 1;
+            BigInteger vorher = BigInteger.ONE;
+            int r = 0;
+            for (int k = 0; k < links && r < zeilen; k++) {
+                int p = r;
+                while (p < zeilen && a[p][k].signum() == 0) p++;
+                if (p == zeilen) continue;
+                if (p != r) {
+                    BigInteger[] t = a[p];
+                    a[p] = a[r];
+                    a[r] = t;
+                    vorzeichen = -vorzeichen;
+                }
+                Schritt s = new Schritt(a, r, k, vorher, r + 1, zeilen);
+                if ((long) (zeilen - r - 1) * (spalten - k - 1) >= PARALLEL_SCHWELLE) {
+                    ForkJoinPool.commonPool().invoke(s);
+                } else {
+                    s.compute();
+                }
+                vorher = a[r][k];
+                pivotSpalte[r++] = k;
+            }
+            return new Stufen(a, pivotSpalte, r, vorzeichen);
+        }
+    }
+
+    /**
+     * {@summary Ein Eliminationsschritt mit Pivot {@code a[r][k]} über die Zeilen {@code [von, bis)} unterhalb von r.}
+     * Jede Zeile wird unabhängig aktualisiert; große Bereiche werden halbiert und parallel bearbeitet.
+     * Geteilt wird auch, wenn die Aufgabe auf dem aufrufenden Thread läuft: {@code commonPool().invoke} führt
+     * sie oft dort aus, und {@link #invokeAll} reicht die zweite Hälfte dann an den gemeinsamen Pool weiter.
+     */
+    private static final class Schritt extends RecursiveAction {
+        private final BigInteger[][] a;
+        private final int r;
+        private final int k;
+        private final BigInteger vorher;
+        private final int von;
+        private final int bis;
+
+        Schritt(BigInteger[][] a, int r, int k, BigInteger vorher, int von, int bis) {
+            this.a = a;
+            this.r = r;
+            this.k = k;
+            this.vorher = vorher;
+            this.von = von;
+            this.bis = bis;
+        }
+
+        @Override
+        protected void compute() {
+            int breite = a[r].length - k - 1;
+            if (bis - von > 1 && (long) (bis - von) * breite > PARALLEL_SCHWELLE) {
+                int mitte = (von + bis) >>> 1;
+                invokeAll(new Schritt(a, r, k, vorher, von, mitte), new Schritt(a, r, k, vorher, mitte, bis));
+                return;
+            }
+            BigInteger[] pz = a[r];
+            BigInteger pivot = pz[k];
+            boolean eins = vorher.equals(BigInteger.ONE);
+            for (int i = von; i < bis; i++) {
+                BigInteger[] zi = a[i];
+                BigInteger aik = zi[k];
+                boolean nullInSpalte = aik.signum() == 0;
+                for (int j = k + 1; j < zi.length; j++) {
+                    BigInteger w = pivot.multiply(zi[j]);
+                    if (!nullInSpalte && pz[j].signum() != 0) w = w.subtract(aik.multiply(pz[j]));
+                    zi[j] = eins ? w : w.divide(vorher);
+                }
+                zi[k] = BigInteger.ZERO;
+            }
+        }
+    }
+
+    /**
+     * {@summary Ergebnis der Elimination: Stufenform, Pivotspalten, Rang und Vorzeichen der Zeilentausche.}
+     */
+    private static final class Stufen {
+        final BigInteger[][] a;
+        final int[] pivotSpalte;
+        final int rang;
+        final int vorzeichen;
+
+        Stufen(BigInteger[][] a, int[] pivotSpalte, int rang, int vorzeichen) {
+            this.a = a;
+            this.pivotSpalte = pivotSpalte;
+            this.rang = rang;
+            this.vorzeichen = vorzeichen;
+        }
+
+        BigInteger diagonale(int i) {
+            return a[i][pivotSpalte[i]];
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package bruchrechner;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@summary Optionale Messpunkte im Rechenkern: Aufrufe, Laufzeiten, gcd-Schritte, Fehler und Ergebnisgrößen.}
+ * Eingeschaltet mit {@code -Dbruchrechner.metriken=true}. Der Schalter ist eine {@code static final}
+ * Konstante, der JIT entfernt die Messpunkte im ausgeschalteten Zustand daher vollständig; siehe
+ * {@code MetrikenBenchmark}. Zähler sind {@link LongAdder}, Laufzeiten landen in {@link Histogramm}en.
+ * Überläufe und die Rechenpfade zählt {@link RechenStatistik} hinter demselben Schalter.
+ * <p>
+ * Veröffentlicht wird über JMX ({@link #registriere()}) und als Text ({@link #text()}).
+ */
+public final class BruchMetriken implements BruchMetrikenMBean {
+    /** {@code true}, wenn die Messpunkte aktiv sind. */
+    public static final boolean AKTIV = Boolean.getBoolean("bruchrechner.metriken");
+    /** JMX-Objektname. */
+    public static final String OBJEKTNAME = "bruchrechner:type=BruchMetriken";
+
+    static final int ADD = 0;
+    static final int SUB = 1;
+    static final int MUL = 2;
+    static final int DIV = 3;
+    static final int PARSE = 4;
+    private static final String[] NAMEN = {"add", "sub", "mul", "div", "parse"};
+
+    private static final LongAdder[] AUFRUFE = new LongAdder[NAMEN.length];
+    private static final Histogramm[] DAUER = new Histogramm[NAMEN.length];
+    private static final LongAdder GCD_AUFRUFE = new LongAdder();
+    private static final LongAdder GCD_SCHRITTE = new LongAdder();
+    private static final LongAdder DIV_NULL = new LongAdder();
+    private static final LongAdder FORMAT = new LongAdder();
+    private static final LongAdder[] BITS = new LongAdder[65];
+
+    static {
+        for (int i = 0; i < NAMEN.length; i++) {
+            AUFRUFE[i] = new LongAdder();
+            DAUER[i] = new Histogramm();
+        }
+        for (int i = 0; i < BITS.length; i++) BITS[i] = new LongAdder();
+    }
+
+    private BruchMetriken() {}
+
+    /**
+     * {@summary Beginn einer gemessenen Operation.}
+     *
+     * @return Startzeit in Nanosekunden oder 0, wenn ausgeschaltet
+     */
+    static long start() {
+        return AKTIV ? System.nanoTime() : 0;
+    }
+
+    /**
+     * {@summary Ende einer gemessenen Operation: zählt den Aufruf und erfasst die Laufzeit.}
+     */
+    static void ende(int operation, long start) {
+        if (!AKTIV) return;
+        AUFRUFE[operation].increment();
+        DAUER[operation].erfasse(System.nanoTime() - start);
+    }
+
+    /**
+     * {@summary Ende einer Rechenoperation; erfasst zusätzlich die Größe des Ergebnisses.}
+     *
+     * @return {@code ergebnis}, damit der Aufruf direkt zurückgegeben werden kann
+     */
+    static Bruch ende(int operation, long start, Bruch ergebnis) {
+        if (!AKTIV) return ergebnis;
+        ende(operation, start);
+        int bits = ergebnis.isGross()
+                ? Math.max(ergebnis.bigZaehler().bitLength(), ergebnis.bigNenner().bitLength())
+                : 64 - Long.numberOfLeadingZeros(Math.max(Math.abs((long) ergebnis.getZaehler()), ergebnis.getNenner()));
+        BITS[Math.min(bits, BITS.length - 1)].increment();
+        return ergebnis;
+    }
+
+    /**
+     * {@summary Zählt einen gcd-Aufruf mit der Anzahl seiner Schleifendurchläufe.}
+     */
+    static void gcd(int schritte) {
+        if (!AKTIV) return;
+        GCD_AUFRUFE.increment();
+        GCD_SCHRITTE.add(schritte);
+    }
+
+    /**
+     * {@summary Zählt einen Versuch, durch 0 zu teilen.}
+     */
+    static void divisionDurchNull() {
+        if (AKTIV) DIV_NULL.increment();
+    }
+
+    /**
+     * {@summary Zählt eine Eingabe, die nicht als Bruch lesbar war.}
+     */
+    static void formatfehler() {
+        if (AKTIV) FORMAT.increment();
+    }
+
+    /**
+     * {@summary Meldet die Metriken beim Plattform-MBean-Server an.}
+     * Mehrfache Aufrufe sind unschädlich.
+     *
+     * @throws IllegalStateException wenn die Anmeldung scheitert
+     */
+    public static void registriere() {
+        try {
+            ObjectName name = new ObjectName(OBJEKTNAME);
+            var server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) server.registerMBean(new BruchMetriken(), name);
+        } catch (JMException ex) {
+            throw new IllegalStateException("Metriken konnten nicht registriert werden", ex);
+        }
+    }
+
+    /**
+     * {@summary Setzt alle Metriken zurück.}
+     */
+    public static void reset() {
+        for (int i = 0; i < NAMEN.length; i++) {
+            AUFRUFE[i].reset();
+            DAUER[i].reset();
+        }
+        for (LongAdder b : BITS) b.reset();
+        GCD_AUFRUFE.reset();
+        GCD_SCHRITTE.reset();
+        DIV_NULL.reset();
+        FORMAT.reset();
+    }
+
+    /**
+     * {@summary Mehrzeiliger Klartext-Bericht aller Metriken.}
+     *
+     * @return Bericht; bei ausgeschalteten Metriken nur ein Hinweis
+     */
+    public static String text() {
+        if (!AKTIV) return "Metriken: aus (einschalten mit -Dbruchrechner.metriken=true)\n";
+        StringBuilder sb = new StringBuilder("Metriken:\n");
+        for (int i = 0; i < NAMEN.length; i++) {
+            Histogramm h = DAUER[i];
+            sb.append(String.format("  %-6s aufrufe=%d  mittel=%.0f ns  p50=%d ns  p99=%d ns  p99.9=%d ns  max=%d ns%n",
+                    NAMEN[i], AUFRUFE[i].sum(), h.mittel(), h.quantil(0.5), h.quantil(0.99), h.quantil(0.999), h.max()));
+        }
+        long g = GCD_AUFRUFE.sum();
+        long s = GCD_SCHRITTE.sum();
+        sb.append(String.format("  gcd    aufrufe=%d  schritte=%d  (%.2f je Aufruf)%n", g, s, g == 0 ? 0.0 : (double) s / g));
+        sb.append(String.format("  fehler division durch 0=%d  format=%d  ueberlauf=%d%n",
+                DIV_NULL.sum(), FORMAT.sum(), RechenStatistik.ueberlaeufe()));
+        sb.append("  ergebnis-bits");
+        for (int i = 0; i < BITS.length; i++) {
+            long n = BITS[i].sum();
+            if (n != 0) sb.append(' ').append(i == BITS.length - 1 ? "64+" : String.valueOf(i)).append('=').append(n);
+        }
+        return sb.append('\n').toString();
+    }
+
+    @Override public boolean isAktiv() { return AKTIV; }
+    @Override public long getAufrufeAdd() { return AUFRUFE[ADD].sum(); }
+    @Override public long getAufrufeSub() { return AUFRUFE[SUB].sum(); }
+    @Override public long getAufrufeMul() { return AUFRUFE[MUL].sum(); }
+    @Override public long getAufrufeDiv() { return AUFRUFE[DIV].sum(); }
+    @Override public long getAufrufeParse() { return AUFRUFE[PARSE].sum(); }
+    @Override public long getGcdAufrufe() { return GCD_AUFRUFE.sum(); }
+    @Override public long getGcdSchritte() { return GCD_SCHRITTE.sum(); }
+    @Override public long getUeberlaeufe() { return RechenStatistik.ueberlaeufe(); }
+    @Override public long getDivisionenDurchNull() { return DIV_NULL.sum(); }
+    @Override public long getFormatfehler() { return FORMAT.sum(); }
+    @Override public String getText() { return text(); }
+    @Override public void zuruecksetzen() { reset(); }
+
+    @Override
+    public long[] getErgebnisBits() {
+        long[] r = new long[BITS.length];
+        for (int i = 0; i < r.length; i++) r[i] = BITS[i].sum();
+        return r;
+    }
+
+    @Override
+    public long quantilNs(String operation, double q) {
+        for (int i = 0; i < NAMEN.length; i++) {
+            if (NAMEN[i].equals(operation)) return DAUER[i].quantil(q);
+        }
+        throw new IllegalArgumentException("Unbekannte Operation: " + operation);
+    }
+}
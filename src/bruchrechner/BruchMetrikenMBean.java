@@ -0,0 +1,49 @@
+package bruchrechner;
+
+/**
+ * {@summary JMX-Sicht auf {@link BruchMetriken} (Objektname {@value BruchMetriken#OBJEKTNAME}).}
+ */
+public interface BruchMetrikenMBean {
+    /** @return {@code true}, wenn mit {@code -Dbruchrechner.metriken=true} gestartet */
+    boolean isAktiv();
+
+    long getAufrufeAdd();
+
+    long getAufrufeSub();
+
+    long getAufrufeMul();
+
+    long getAufrufeDiv();
+
+    long getAufrufeParse();
+
+    long getGcdAufrufe();
+
+    long getGcdSchritte();
+
+    long getUeberlaeufe();
+
+    long getDivisionenDurchNull();
+
+    long getFormatfehler();
+
+    /** @return Anzahl Ergebnisse je Bitlänge des größeren Betrags von Zähler und Nenner; letzter Eintrag: 64 und mehr */
+    long[] getErgebnisBits();
+
+    /** @return vollständiger Bericht wie {@link BruchMetriken#text()} */
+    String getText();
+
+    /**
+     * {@summary Näherungsweises Laufzeit-Quantil einer Operation.}
+     *
+     * @param operation {@code add}, {@code sub}, {@code mul}, {@code div} oder {@code parse}
+     * @param q         Anteil zwischen 0 und 1
+     * @return Laufzeit in Nanosekunden
+     */
+    long quantilNs(String operation, double q);
+
+    /**
+     * {@summary Setzt alle Metriken zurück.}
+     */
+    void zuruecksetzen();
+}
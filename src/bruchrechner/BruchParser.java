@@ -0,0 +1,297 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * {@summary Wiederverwendbarer Parser für {@code "z"} und {@code "z/n"} ohne Zwischenobjekte.}
+ * Liest direkt aus einem Bereich einer {@link CharSequence} oder aus ASCII-Bytes eines {@link ByteBuffer}
+ * (auch direkt oder per {@link MappedByteBuffer} eingeblendet). Ein Fehler wird nicht geworfen, sondern als
+ * Art und Offset gemerkt; die Meldung entsteht erst bei Bedarf und ist identisch zu {@link Bruch#parse(String)}.
+ * <p>
+ * Nicht threadsicher: pro Thread eine Instanz verwenden.
+ */
+public final class BruchParser {
+    /** Kein Fehler. */
+    public static final int OK = 0;
+    /** Leere Eingabe ({@code "Eingabe fehlt"}). */
+    public static final int FEHLT = 1;
+    /** Falsche Anzahl an {@code '/'} ({@code "Format: z/n"}). */
+    public static final int FORMAT = 2;
+    /** Keine gültige Ganzzahl ({@link NumberFormatException}). */
+    public static final int ZAHL = 3;
+    /** Nenner ist 0 ({@code "Nenner darf nicht 0 sein."}). */
+    public static final int NENNER_NULL = 4;
+
+    private static final int BLOCK = 1 << 30;
+
+    private CharSequence zeichen;
+    private ByteBuffer bytes;
+
+    private int zaehler;
+    private int nenner;
+    private int fehler;
+    private int fehlerOffset;
+    private int zahlWert;  // Ergebnis von zahl()
+    private int zahlStart; // Bereich der fehlerhaften Zahl für die Meldung
+    private int zahlEnde;
+
+    /**
+     * {@summary Parst den Bereich {@code [start, end)} einer Zeichenfolge.}
+     *
+     * @param s     Quelle
+     * @param start erster Index
+     * @param end   Index hinter dem letzten Zeichen
+     * @return {@code true} bei Erfolg, sonst siehe {@link #fehler()} und {@link #fehlerOffset()}
+     */
+    public boolean parse(CharSequence s, int start, int end) {
+        zeichen = s;
+        bytes = null;
+        long t = BruchMetriken.start();
+        boolean ok = parseBereich(start, end);
+        BruchMetriken.ende(BruchMetriken.PARSE, t);
+        return ok;
+    }
+
+    /**
+     * {@summary Parst ASCII-Bytes im Bereich {@code [start, end)} eines Puffers.}
+     * Position und Limit des Puffers bleiben unverändert.
+     *
+     * @param b     Quelle
+     * @param start erster Index
+     * @param end   Index hinter dem letzten Byte
+     * @return {@code true} bei Erfolg, sonst siehe {@link #fehler()} und {@link #fehlerOffset()}
+     */
+    public boolean parse(ByteBuffer b, int start, int end) {
+        bytes = b;
+        zeichen = null;
+        long t = BruchMetriken.start();
+        boolean ok = parseBereich(start, end);
+        BruchMetriken.ende(BruchMetriken.PARSE, t);
+        return ok;
+    }
+
+    /** @return ungekürzter Zähler des letzten erfolgreichen Aufrufs */
+    public int zaehler() {
+        return zaehler;
+    }
+
+    /** @return ungekürzter Nenner des letzten erfolgreichen Aufrufs, ungleich 0 */
+    public int nenner() {
+        return nenner;
+    }
+
+    /**
+     * {@summary Ergebnis des letzten erfolgreichen Aufrufs als gekürzter Bruch.}
+     *
+     * @return {@code zaehler/nenner}
+     */
+    public Bruch toBruch() {
+        return Bruch.valueOf(zaehler, nenner);
+    }
+
+    /** @return Fehlerart des letzten Aufrufs, {@link #OK} bei Erfolg */
+    public int fehler() {
+        return fehler;
+    }
+
+    /** @return absoluter Index in der Quelle, an dem der Fehler erkannt wurde */
+    public int fehlerOffset() {
+        return fehlerOffset;
+    }
+
+    /**
+     * {@summary Baut die Ausnahme, die {@link Bruch#parse(String)} für denselben Fehler werfen würde.}
+     * Erst hier entstehen Strings; der Aufruf gehört deshalb nicht in den heißen Pfad.
+     *
+     * @return passende Ausnahme mit identischer Meldung
+     * @throws IllegalStateException wenn der letzte Aufruf erfolgreich war
+     */
+    public RuntimeException alsAusnahme() {
+        switch (fehler) {
+            case FEHLT: return new IllegalArgumentException("Eingabe fehlt");
+            case FORMAT: return new IllegalArgumentException("Format: z/n");
+            case ZAHL: return new NumberFormatException("For input string: \"" + text(zahlStart, zahlEnde) + "\"");
+            case NENNER_NULL: return new IllegalArgumentException("Nenner darf nicht 0 sein.");
+            default: throw new IllegalStateException("Kein Fehler");
+        }
+    }
+
+    /**
+     * {@summary Liest eine Datei mit einem Bruch pro Zeile per Memory-Mapping in eine Spalte.}
+     * Leere Zeilen werden übersprungen. Die Datei wird blockweise eingeblendet, sodass auch Dateien
+     * über 2 GB gelesen werden; gekürzt wird am Ende in einem Durchlauf ({@link BruchSpalte#ausArrays}).
+     *
+     * @param datei Pfad zur Datei
+     * @return Spalte mit allen Werten in Dateireihenfolge
+     * @throws IOException bei Lesefehlern
+     * @throws IllegalArgumentException bei einer fehlerhaften Zeile, mit Zeilennummer und Byte-Offset
+     */
+    public static BruchSpalte parseDatei(Path datei) throws IOException {
+        BruchParser p = new BruchParser();
+        long[] z = new long[1024];
+        long[] n = new long[1024];
+        int anzahl = 0;
+        long zeile = 0;
+        try (FileChannel ch = FileChannel.open(datei, StandardOpenOption.READ)) {
+            long groesse = ch.size();
+            long pos = 0;
+            while (pos < groesse) {
+                int laenge = (int) Math.min(BLOCK, groesse - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, laenge);
+                int ende = laenge;
+                if (pos + laenge < groesse) {
+                    // nur vollständige Zeilen verarbeiten, der Rest beginnt den nächsten Block
+                    while (ende > 0 && buf.get(ende - 1) != '\n') ende--;
+                    if (ende == 0) throw new IllegalArgumentException("Zeile zu lang bei Offset " + pos);
+                }
+                int start = 0;
+                while (start < ende) {
+                    int nl = start;
+                    while (nl < ende && buf.get(nl) != '\n') nl++;
+                    zeile++;
+                    if (!leer(buf, start, nl)) {
+                        if (!p.parse(buf, start, nl)) {
+                            RuntimeException ex = p.alsAusnahme();
+                            throw new IllegalArgumentException("Zeile " + zeile + ", Offset "
+                                    + (pos + p.fehlerOffset()) + ": " + ex.getMessage(), ex);
+                        }
+                        if (anzahl == z.length) {
+                            z = Arrays.copyOf(z, anzahl * 2);
+                            n = Arrays.copyOf(n, anzahl * 2);
+                        }
+                        z[anzahl] = p.zaehler;
+                        n[anzahl] = p.nenner;
+                        anzahl++;
+                    }
+                    start = nl + 1;
+                }
+                pos += ende;
+            }
+        }
+        return BruchSpalte.ausArrays(Arrays.copyOf(z, anzahl), Arrays.copyOf(n, anzahl));
+    }
+
+    /**
+     * {@summary Gemeinsamer Kern: Trimmen, Schrägstriche zählen und beide Zahlen lesen.}
+     * Bildet die Semantik von {@code trim()} und {@code split("/")} nach, inklusive des Wegfalls
+     * abschließender leerer Teile ({@code "1/2/"} ist gültig, {@code "1/"} nicht).
+     */
+    private boolean parseBereich(int start, int end) {
+        fehler = OK;
+        while (start < end && at(start) <= ' ') start++;
+        while (end > start && at(end - 1) <= ' ') end--;
+        if (start == end) return fehler(FEHLT, start);
+
+        int strich = -1;
+        for (int i = start; i < end; i++) {
+            if (at(i) == '/') {
+                strich = i;
+                break;
+            }
+        }
+        if (strich < 0) {
+            if (!zahl(start, end)) return false;
+            zaehler = zahlWert;
+            nenner = 1;
+            return true;
+        }
+
+        int rest = end;
+        while (rest > start && at(rest - 1) == '/') rest--;
+        int zweiter = -1;
+        for (int i = strich + 1; i < rest; i++) {
+            if (at(i) == '/') {
+                zweiter = i;
+                break;
+            }
+        }
+        if (strich >= rest || zweiter >= 0) return fehler(FORMAT, zweiter >= 0 ? zweiter : strich);
+
+        int zs = trimStart(start, strich);
+        if (!zahl(zs, trimEnde(zs, strich))) return false;
+        int z = zahlWert;
+        int ns = trimStart(strich + 1, rest);
+        if (!zahl(ns, trimEnde(ns, rest))) return false;
+        if (zahlWert == 0) return fehler(NENNER_NULL, ns);
+        zaehler = z;
+        nenner = zahlWert;
+        return true;
+    }
+
+    /**
+     * {@summary Liest eine Ganzzahl wie {@link Integer#parseInt(String)} (ASCII-Ziffern, optionales Vorzeichen).}
+     * Akkumuliert negativ, damit {@code Integer.MIN_VALUE} ohne Überlauf gelesen wird.
+     */
+    private boolean zahl(int start, int end) {
+        int i = start;
+        boolean negativ = false;
+        int grenze = -Integer.MAX_VALUE;
+        if (i < end) {
+            char c = at(i);
+            if (c == '-' || c == '+') {
+                negativ = c == '-';
+                if (negativ) grenze = Integer.MIN_VALUE;
+                i++;
+            }
+        }
+        if (i == end) return zahlFehler(start, end, i);
+        int grenzeVorMal = grenze / 10;
+        int wert = 0;
+        for (; i < end; i++) {
+            int ziffer = at(i) - '0';
+            if (ziffer < 0 || ziffer > 9 || wert < grenzeVorMal) return zahlFehler(start, end, i);
+            wert *= 10;
+            if (wert < grenze + ziffer) return zahlFehler(start, end, i);
+            wert -= ziffer;
+        }
+        zahlWert = negativ ? wert : -wert;
+        return true;
+    }
+
+    private boolean zahlFehler(int start, int end, int offset) {
+        zahlStart = start;
+        zahlEnde = end;
+        return fehler(ZAHL, offset);
+    }
+
+    private boolean fehler(int art, int offset) {
+        BruchMetriken.formatfehler();
+        fehler = art;
+        fehlerOffset = offset;
+        return false;
+    }
+
+    private int trimStart(int start, int end) {
+        while (start < end && at(start) <= ' ') start++;
+        return start;
+    }
+
+    private int trimEnde(int start, int end) {
+        while (end > start && at(end - 1) <= ' ') end--;
+        return end;
+    }
+
+    private char at(int i) {
+        return zeichen != null ? zeichen.charAt(i) : (char) (bytes.get(i) & 0xFF);
+    }
+
+    private String text(int start, int end) {
+        if (zeichen != null) return zeichen.subSequence(start, end).toString();
+        StringBuilder sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) sb.append((char) (bytes.get(i) & 0xFF));
+        return sb.toString();
+    }
+
+    private static boolean leer(ByteBuffer b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if ((b.get(i) & 0xFF) > ' ') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,330 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * {@summary Summe, Produkt und Mittelwert großer Bruch-Sammlungen per paralleler Baumreduktion.}
+ * Arrays und Listen werden mit Fork/Join in Teilbereiche zerlegt; jedes Blatt rechnet mit einem
+ * {@link BruchAccumulator} in Blöcken von {@value #BLOCK} Werten, Blöcke und Teilergebnisse werden paarweise
+ * zusammengeführt. So bleiben Zwischenwerte klein (nur benachbarte Teilsummen wachsen zusammen) und die
+ * Arbeit verteilt sich auf alle Kerne.
+ * <p>
+ * Beim Summieren sammelt ein Blatt die Zähler gleicher Nenner in einer kleinen Tabelle und kürzt erst
+ * beim Zusammenführen; beim Multiplizieren kürzt der Akkumulator über Kreuz. Da jeder Wert gekürzt
+ * dargestellt wird, ist das Ergebnis exakt gleich der sequentiellen Verkettung mit {@link Bruch#add} bzw.
+ * {@link Bruch#mul}. Streams werden über {@link Collector}s reduziert, die ebenfalls paarweise verknüpfen.
+ */
+public final class BruchReduktion {
+    /**
+     * Mindestgröße eines Teilbereichs, der nicht weiter aufgeteilt wird. Darüber hinaus wird nur in etwa
+     * viermal so viele Teile wie Kerne zerlegt, denn jedes Blatt leert am Ende seine Nenner-Tabelle.
+     */
+    static final int SCHWELLE = 8192;
+    /** Anzahl Werte, die ein Blatt linear im Akkumulator verrechnet, bevor paarweise weitergerechnet wird. */
+    static final int BLOCK = 64;
+
+    private static final Bruch NULL = Bruch.valueOf(0, 1);
+    private static final Bruch EINS = Bruch.valueOf(1, 1);
+
+    private BruchReduktion() {}
+
+    /**
+     * {@summary Summe aller Werte.}
+     *
+     * @param werte Summanden
+     * @return exakte Summe, 0 bei leerem Array
+     */
+    public static Bruch summe(Bruch[] werte) {
+        return werte.length == 0 ? NULL : new Teil(werte, 0, werte.length, schwelle(werte.length), false).invoke();
+    }
+
+    /** @see #summe(Bruch[]) */
+    public static Bruch summe(List<Bruch> werte) {
+        return summe(werte.toArray(new Bruch[0]));
+    }
+
+    /** @see #summe(Bruch[]) */
+    public static Bruch summe(Stream<Bruch> werte) {
+        return werte.collect(summierend());
+    }
+
+    /**
+     * {@summary Produkt aller Werte.}
+     *
+     * @param werte Faktoren
+     * @return exaktes Produkt, 1 bei leerem Array
+     */
+    public static Bruch produkt(Bruch[] werte) {
+        return werte.length == 0 ? EINS : new Teil(werte, 0, werte.length, schwelle(werte.length), true).invoke();
+    }
+
+    /** @see #produkt(Bruch[]) */
+    public static Bruch produkt(List<Bruch> werte) {
+        return produkt(werte.toArray(new Bruch[0]));
+    }
+
+    /** @see #produkt(Bruch[]) */
+    public static Bruch produkt(Stream<Bruch> werte) {
+        return werte.collect(multiplizierend());
+    }
+
+    /**
+     * {@summary Arithmetisches Mittel aller Werte.}
+     *
+     * @param werte Werte
+     * @return exakter Mittelwert
+     * @throws IllegalArgumentException bei leerem Array
+     */
+    public static Bruch mittel(Bruch[] werte) {
+        if (werte.length == 0) throw new IllegalArgumentException("Keine Werte");
+        return durch(summe(werte), werte.length);
+    }
+
+    /** @see #mittel(Bruch[]) */
+    public static Bruch mittel(List<Bruch> werte) {
+        return mittel(werte.toArray(new Bruch[0]));
+    }
+
+    /** @see #mittel(Bruch[]) */
+    public static Bruch mittel(Stream<Bruch> werte) {
+        return werte.collect(mittelnd());
+    }
+
+    /**
+     * {@summary Collector für die Summe; 0 bei leerem Stream.}
+     */
+    public static Collector<Bruch, ?, Bruch> summierend() {
+        return Collector.of(Summierer::new, Summierer::add, Summierer::kombiniere, Summierer::ergebnis,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * {@summary Collector für das Produkt; 1 bei leerem Stream.}
+     */
+    public static Collector<Bruch, ?, Bruch> multiplizierend() {
+        return Collector.of(Multiplizierer::new, Multiplizierer::add, Multiplizierer::kombiniere,
+                Multiplizierer::ergebnis, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * {@summary Collector für den Mittelwert.}
+     * Der Finisher wirft eine {@link IllegalArgumentException}, wenn der Stream leer war.
+     */
+    public static Collector<Bruch, ?, Bruch> mittelnd() {
+        return Collector.of(Summierer::new, Summierer::add, Summierer::kombiniere, s -> {
+            if (s.anzahl == 0) throw new IllegalArgumentException("Keine Werte");
+            return durch(s.ergebnis(), s.anzahl);
+        }, Collector.Characteristics.UNORDERED);
+    }
+
+    private static int schwelle(int laenge) {
+        return Math.max(SCHWELLE, laenge / (4 * ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    private static Bruch durch(Bruch summe, long anzahl) {
+        return summe.mul(Bruch.of(BigInteger.ONE, BigInteger.valueOf(anzahl)));
+    }
+
+    /**
+     * {@summary Fork/Join-Teilaufgabe über {@code werte[von, bis)}.}
+     */
+    private static final class Teil extends RecursiveTask<Bruch> {
+        private final Bruch[] werte;
+        private final int von;
+        private final int bis;
+        private final int schwelle;
+        private final boolean produkt;
+
+        Teil(Bruch[] werte, int von, int bis, int schwelle, boolean produkt) {
+            this.werte = werte;
+            this.von = von;
+            this.bis = bis;
+            this.schwelle = schwelle;
+            this.produkt = produkt;
+        }
+
+        @Override
+        protected Bruch compute() {
+            if (bis - von <= schwelle) {
+                if (produkt) {
+                    Multiplizierer m = new Multiplizierer();
+                    for (int i = von; i < bis; i++) m.add(werte[i]);
+                    return m.ergebnis();
+                }
+                Summierer s = new Summierer();
+                for (int i = von; i < bis; i++) s.add(werte[i]);
+                return s.ergebnis();
+            }
+            int mitte = (von + bis) >>> 1;
+            Teil links = new Teil(werte, von, mitte, schwelle, produkt);
+            links.fork();
+            Bruch rechts = new Teil(werte, mitte, bis, schwelle, produkt).compute();
+            Bruch l = links.join();
+            return produkt ? l.mul(rechts) : l.add(rechts);
+        }
+    }
+
+    /**
+     * {@summary Paarweise Reduktion beliebig vieler Teilergebnisse wie ein Binärzähler.}
+     * Ebene k hält die Verknüpfung von 2^k Blöcken; ein neuer Block wird so lange mit der besetzten
+     * Ebene verknüpft, bis eine freie gefunden ist. Auch sequentielle Eingaben werden so baumartig
+     * reduziert, jeder Wert nimmt an höchstens log2(n) Verknüpfungen teil.
+     */
+    private static final class Stapel {
+        private final Bruch[] ebenen = new Bruch[64];
+        private final boolean produkt;
+
+        Stapel(boolean produkt) {
+            this.produkt = produkt;
+        }
+
+        void push(Bruch b) {
+            for (int k = 0; ; k++) {
+                if (ebenen[k] == null) {
+                    ebenen[k] = b;
+                    return;
+                }
+                b = verknuepfe(ebenen[k], b);
+                ebenen[k] = null;
+            }
+        }
+
+        Bruch ergebnis() {
+            Bruch r = null;
+            for (Bruch e : ebenen) {
+                if (e != null) r = r == null ? e : verknuepfe(e, r);
+            }
+            return r != null ? r : produkt ? EINS : NULL;
+        }
+
+        private Bruch verknuepfe(Bruch a, Bruch b) {
+            return produkt ? a.mul(b) : a.add(b);
+        }
+    }
+
+    /**
+     * {@summary Summiert Brüche; Zähler gleicher Nenner werden in einer offenen Hash-Tabelle gesammelt.}
+     * Erst beim Leeren der Tabelle wird je Nenner einmal gekürzt und in den Akkumulator addiert. Ist die
+     * Tabelle voll oder ein Nenner nicht schnell auffindbar, geht der Wert direkt in den Akkumulator.
+     * Nach {@link #BLOCK} Werten wandert der Akkumulator in einen {@link Stapel}, damit bei vielen
+     * verschiedenen Nennern keine lineare Kette immer größerer Werte entsteht.
+     */
+    private static final class Summierer {
+        private static final int TABELLE = 256;
+        private static final int MASKE = TABELLE - 1;
+        private static final int MAX_BELEGT = TABELLE * 3 / 4;
+        private static final int MAX_SONDIERUNG = 8;
+
+        private final long[] nenner = new long[TABELLE]; // 0 = frei
+        private final long[] zaehler = new long[TABELLE];
+        private final BruchAccumulator acc = new BruchAccumulator();
+        private final Stapel stapel = new Stapel(false);
+        private int belegt;
+        private int imBlock;
+        private long anzahl;
+
+        void add(Bruch b) {
+            anzahl++;
+            if (b.isGross()) {
+                acc.addInPlace(b);
+                blockGezaehlt();
+                return;
+            }
+            long z = b.getZaehler();
+            long n = b.getNenner();
+            int i = (int) ((n * 0x9E3779B97F4A7C15L) >>> 56) & MASKE;
+            for (int k = 0; k < MAX_SONDIERUNG; k++, i = (i + 1) & MASKE) {
+                if (nenner[i] == n) {
+                    long s = zaehler[i] + z;
+                    if (((zaehler[i] ^ s) & (z ^ s)) < 0 || s == Long.MIN_VALUE) {
+                        spuele(i);
+                        nenner[i] = n;
+                        belegt++;
+                        s = z;
+                    }
+                    zaehler[i] = s;
+                    return;
+                }
+                if (nenner[i] == 0) {
+                    if (belegt >= MAX_BELEGT) break;
+                    nenner[i] = n;
+                    zaehler[i] = z;
+                    belegt++;
+                    return;
+                }
+            }
+            acc.addKlein(z, n);
+            blockGezaehlt();
+        }
+
+        Summierer kombiniere(Summierer o) {
+            anzahl += o.anzahl;
+            stapel.push(o.ergebnis());
+            return this;
+        }
+
+        Bruch ergebnis() {
+            for (int i = 0; i < TABELLE; i++) {
+                if (nenner[i] != 0) spuele(i);
+            }
+            stapel.push(acc.toBruch());
+            acc.reset();
+            imBlock = 0;
+            return stapel.ergebnis();
+        }
+
+        private void spuele(int i) {
+            long s = zaehler[i];
+            long n = nenner[i];
+            if (s != 0) {
+                long g = Bruch.gcd(s, n);
+                acc.addKlein(s / g, n / g);
+                blockGezaehlt();
+            }
+            nenner[i] = 0;
+            zaehler[i] = 0;
+            belegt--;
+        }
+
+        private void blockGezaehlt() {
+            if (++imBlock < BLOCK) return;
+            stapel.push(acc.toBruch());
+            acc.reset();
+            imBlock = 0;
+        }
+    }
+
+    /**
+     * {@summary Multipliziert Brüche blockweise im Akkumulator (über Kreuz gekürzt) und die Blöcke paarweise.}
+     */
+    private static final class Multiplizierer {
+        private final BruchAccumulator acc = new BruchAccumulator(EINS);
+        private final Stapel stapel = new Stapel(true);
+        private int imBlock;
+
+        void add(Bruch b) {
+            acc.mulInPlace(b);
+            if (++imBlock < BLOCK) return;
+            stapel.push(acc.toBruch());
+            acc.set(EINS);
+            imBlock = 0;
+        }
+
+        Multiplizierer kombiniere(Multiplizierer o) {
+            stapel.push(o.ergebnis());
+            return this;
+        }
+
+        Bruch ergebnis() {
+            stapel.push(acc.toBruch());
+            acc.set(EINS);
+            imBlock = 0;
+            return stapel.ergebnis();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@summary Schreibt Brüche zeilenweise als ASCII über einen wiederverwendeten Puffer in einen Kanal.}
+ * Jede Zeile enthält einen Wert in der Schreibweise von {@link Bruch#toString()} bzw.
+ * {@link Bruch#toMixedString()}, abgeschlossen mit {@code '\n'}. Die Ziffern werden direkt in den Puffer
+ * geschrieben; Werte einer {@link BruchSpalte} kommen ohne Bruch-Objekte aus, pro Zeile entsteht kein String.
+ * Der Puffer liegt auf dem Heap, damit die Ziffern direkt ins Array gehen; erst wenn er voll ist, wird er in
+ * den Kanal geschrieben. Nicht threadsicher.
+ */
+public final class BruchSchreiber implements AutoCloseable {
+    /** Standardgröße des Puffers. */
+    static final int PUFFER = 1 << 16;
+
+    private final WritableByteChannel kanal;
+    private final ByteBuffer puffer;
+
+    /**
+     * {@summary Erzeugt einen Schreiber mit {@value #PUFFER} Byte Puffer.}
+     *
+     * @param kanal Ziel, wird von {@link #close()} mit geschlossen
+     */
+    public BruchSchreiber(WritableByteChannel kanal) {
+        this(kanal, PUFFER);
+    }
+
+    /**
+     * {@summary Erzeugt einen Schreiber mit eigener Puffergröße.}
+     *
+     * @param kanal         Ziel, wird von {@link #close()} mit geschlossen
+     * @param puffergroesse Größe des Puffers in Byte, mindestens {@value BruchFormat#MAX_LONG_LAENGE}
+     * @throws IllegalArgumentException wenn der Puffer zu klein ist
+     */
+    public BruchSchreiber(WritableByteChannel kanal, int puffergroesse) {
+        if (puffergroesse < BruchFormat.MAX_LONG_LAENGE) {
+            throw new IllegalArgumentException("Puffer zu klein: " + puffergroesse);
+        }
+        this.kanal = kanal;
+        this.puffer = ByteBuffer.allocate(puffergroesse);
+    }
+
+    /**
+     * {@summary Schreibt alle Werte einer Spalte, eine Zeile je Wert wie {@link Bruch#toString()}.}
+     *
+     * @param spalte Werte
+     * @return dieser Schreiber
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    public BruchSchreiber schreibe(BruchSpalte spalte) throws IOException {
+        for (int i = 0; i < spalte.laenge(); i++) {
+            platz();
+            BruchFormat.bruch(spalte.zaehler(i), spalte.nenner(i), puffer);
+            puffer.put((byte) '\n');
+        }
+        return this;
+    }
+
+    /**
+     * {@summary Schreibt alle Werte einer Spalte, eine Zeile je Wert wie {@link Bruch#toMixedString()}.}
+     *
+     * @param spalte Werte
+     * @return dieser Schreiber
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    public BruchSchreiber schreibeGemischt(BruchSpalte spalte) throws IOException {
+        for (int i = 0; i < spalte.laenge(); i++) {
+            platz();
+            BruchFormat.gemischt(spalte.zaehler(i), spalte.nenner(i), puffer);
+            puffer.put((byte) '\n');
+        }
+        return this;
+    }
+
+    /**
+     * {@summary Schreibt einen Wert als Zeile wie {@link Bruch#toString()}.}
+     *
+     * @param b Wert
+     * @return dieser Schreiber
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    public BruchSchreiber schreibe(Bruch b) throws IOException {
+        if (b.isGross()) return gross(b.toString());
+        platz();
+        b.formatTo(puffer).put((byte) '\n');
+        return this;
+    }
+
+    /**
+     * {@summary Schreibt einen Wert als Zeile wie {@link Bruch#toMixedString()}.}
+     *
+     * @param b Wert
+     * @return dieser Schreiber
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    public BruchSchreiber schreibeGemischt(Bruch b) throws IOException {
+        if (b.isGross()) return gross(b.toMixedString());
+        platz();
+        b.formatMixedTo(puffer).put((byte) '\n');
+        return this;
+    }
+
+    /**
+     * {@summary Schreibt den Pufferinhalt vollständig in den Kanal.}
+     *
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    public void flush() throws IOException {
+        puffer.flip();
+        while (puffer.hasRemaining()) kanal.write(puffer);
+        puffer.clear();
+    }
+
+    /**
+     * {@summary Schreibt den Rest und schließt den Kanal.}
+     *
+     * @throws IOException bei Schreibfehlern des Kanals
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            kanal.close();
+        }
+    }
+
+    /** Leert den Puffer, wenn eine weitere Zeile aus long-Werten nicht mehr sicher hineinpasst. */
+    private void platz() throws IOException {
+        if (puffer.remaining() < BruchFormat.MAX_LONG_LAENGE) flush();
+    }
+
+    private BruchSchreiber gross(String text) throws IOException {
+        byte[] bytes = (text + '\n').getBytes(StandardCharsets.US_ASCII);
+        if (puffer.remaining() < bytes.length) flush();
+        if (bytes.length > puffer.capacity()) {
+            ByteBuffer direkt = ByteBuffer.wrap(bytes);
+            while (direkt.hasRemaining()) kanal.write(direkt);
+        } else {
+            puffer.put(bytes);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,216 @@
+package bruchrechner;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@summary Lokaler HTTP-Dienst für den Rechenkern, ohne Oberfläche.}
+ * Endpunkte (Text in UTF-8, eine Rechnung {@code A op B} pro Zeile wie im Batch-Modus):
+ * <ul>
+ *   <li>{@code POST /rechne}: genau eine Rechnung, Antwort eine Zeile</li>
+ *   <li>{@code POST /batch}: beliebig viele Rechnungen, Antwort eine Zeile je Eingabezeile in derselben
+ *       Reihenfolge; gerechnet wird blockweise parallel mit {@link BatchRechner}, die Antwort wird gestreamt</li>
+ *   <li>{@code GET /metriken}: Bericht von {@link BruchMetriken#text()}</li>
+ * </ul>
+ * Mit {@code ?dezimal} folgt wie bei {@code --dezimal} die Dezimalschreibweise als weitere Spalte.
+ * Ergebnisse und Fehlertexte sind dieselben wie in der Oberfläche; Rechenfehler liefern Status 200 mit
+ * {@code Fehler: <Meldung>}, Protokollfehler 400, 404 oder 405.
+ * <p>
+ * Jede Anfrage läuft auf einem eigenen virtuellen Thread, wenn die JVM sie bietet (ab Java 21); sonst auf
+ * einem mitwachsenden Pool von Plattform-Threads. Der Server bindet nur an die Loopback-Adresse.
+ * <p>
+ * Aufruf: {@code java -jar bruchrechner.jar --server [--port n] [--threads n]}
+ */
+public final class BruchServer implements AutoCloseable {
+    /** Port, wenn keiner angegeben ist. */
+    public static final int STANDARD_PORT = 8765;
+    /** Größte angenommene Anfrage an {@code /rechne}. */
+    static final int MAX_EINZEL = 1 << 16;
+
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    static {
+        // Kopfzeilen und Rumpf gehen getrennt auf den Socket; mit Nagle wartet jede kleine Antwort sonst
+        // auf das verzögerte ACK des Clients (rund 40 ms). Muss vor dem ersten HttpServer gesetzt sein.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService anfragen;
+    private final BatchRechner batch;
+    private final BatchRechner batchDezimal;
+
+    /**
+     * {@summary Bindet den Server an {@code localhost}; gestartet wird er mit {@link #start()}.}
+     *
+     * @param port    Port, 0 für einen freien
+     * @param threads Worker für {@code /batch}
+     * @throws IOException wenn der Port nicht gebunden werden kann
+     */
+    public BruchServer(int port, int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 128);
+        anfragen = threadProAnfrage();
+        batch = new BatchRechner(threads, false);
+        batchDezimal = new BatchRechner(threads, true);
+        server.setExecutor(anfragen);
+        server.createContext("/rechne", this::rechne);
+        server.createContext("/batch", this::batch);
+        server.createContext("/metriken", this::metriken);
+    }
+
+    /**
+     * {@summary Einstiegspunkt für {@code --server}; läuft, bis der Prozess beendet wird.}
+     *
+     * @param args Kommandozeilenargumente inklusive {@code --server}
+     * @return 2 bei falschen Argumenten, sonst kehrt der Aufruf nicht zurück
+     * @throws IOException wenn der Port nicht gebunden werden kann
+     * @throws InterruptedException wenn der wartende Thread unterbrochen wird
+     */
+    public static int starte(String[] args) throws IOException, InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+        int port = STANDARD_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i < args.length; i++) {
+            if (i + 1 >= args.length) return nutzung();
+            try {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    default: return nutzung();
+                }
+            } catch (NumberFormatException e) {
+                return nutzung();
+            }
+        }
+        if (port < 0 || port > 65535 || threads < 1) return nutzung();
+        BruchServer s = new BruchServer(port, threads);
+        CountDownLatch ende = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            s.close();
+            ende.countDown();
+        }, "bruch-server-ende"));
+        s.start();
+        System.err.println("Bruchrechner-Dienst auf http://localhost:" + s.port() + "/ (" + s.threadArt() + ")");
+        ende.await();
+        return 0;
+    }
+
+    /** Startet die Annahme von Anfragen. */
+    public void start() {
+        server.start();
+    }
+
+    /** @return tatsächlich gebundener Port */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /** @return Beschreibung, auf welchen Threads Anfragen laufen */
+    String threadArt() {
+        return anfragen.getClass().getSimpleName().contains("ThreadPerTask")
+                ? "virtuelle Threads" : "Plattform-Threads";
+    }
+
+    /**
+     * {@summary Nimmt keine Anfragen mehr an und beendet alle Threads.}
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        anfragen.shutdown();
+        batch.schliesse();
+        batchDezimal.schliesse();
+    }
+
+    private void rechne(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (!methode(ex, "POST")) return;
+            byte[] daten = ex.getRequestBody().readNBytes(MAX_EINZEL + 1);
+            String text = new String(daten, StandardCharsets.UTF_8).strip();
+            if (daten.length > MAX_EINZEL || text.isEmpty() || text.indexOf('\n') >= 0) {
+                antworte(ex, 400, "Genau eine Rechnung erwartet\n");
+                return;
+            }
+            antworte(ex, 200, BatchRechner.auswerten(text, new BruchParser(), dezimal(ex)) + '\n');
+        }
+    }
+
+    private void batch(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (!methode(ex, "POST")) return;
+            ex.getResponseHeaders().set("Content-Type", TEXT);
+            ex.sendResponseHeaders(200, 0);
+            InputStream ein = ex.getRequestBody();
+            OutputStream aus = ex.getResponseBody();
+            BufferedReader in = new BufferedReader(new InputStreamReader(ein, StandardCharsets.UTF_8), 1 << 16);
+            Writer out = new BufferedWriter(new OutputStreamWriter(aus, StandardCharsets.UTF_8), 1 << 16);
+            (dezimal(ex) ? batchDezimal : batch).verarbeite(in, out);
+            out.flush();
+        }
+    }
+
+    private void metriken(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (methode(ex, "GET")) antworte(ex, 200, BruchMetriken.text());
+        }
+    }
+
+    private static boolean methode(HttpExchange ex, String erwartet) throws IOException {
+        if (ex.getRequestMethod().equals(erwartet)) return true;
+        ex.getResponseHeaders().set("Allow", erwartet);
+        antworte(ex, 405, "Nur " + erwartet + "\n");
+        return false;
+    }
+
+    private static boolean dezimal(HttpExchange ex) {
+        String q = ex.getRequestURI().getRawQuery();
+        return q != null && (q.equals("dezimal") || q.startsWith("dezimal&") || q.contains("&dezimal"));
+    }
+
+    private static void antworte(HttpExchange ex, int status, String text) throws IOException {
+        byte[] b = text.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", TEXT);
+        ex.sendResponseHeaders(status, b.length);
+        ex.getResponseBody().write(b);
+    }
+
+    /**
+     * {@summary Ein virtueller Thread je Anfrage, sofern verfügbar; sonst ein mitwachsender Pool.}
+     * Der Aufruf erfolgt per Reflexion, damit das Programm weiter mit Java 17 übersetzt und läuft.
+     */
+    static ExecutorService threadProAnfrage() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException ex) {
+            AtomicInteger nummer = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "bruch-http-" + nummer.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private static int nutzung() {
+        System.err.println("Aufruf: java -jar bruchrechner.jar --server [--port n] [--threads n]");
+        return 2;
+    }
+}
@@ -0,0 +1,358 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * {@summary Spalte von Brüchen als zwei parallele long-Arrays (Struct of Arrays) für Massenoperationen.}
+ * Zähler und Nenner liegen hintereinander im Speicher statt verstreut in einzelnen {@link Bruch}-Objekten.
+ * Die elementweisen Operationen laufen in zwei Phasen: Erst werden die ungekürzten Produkte in einer
+ * einfachen Zählschleife über primitive Arrays berechnet (die der JIT-Compiler vektorisieren kann),
+ * danach wird in einem Durchlauf gesammelt gekürzt. Liegen Werte außerhalb des int-Bereichs, wird jedes
+ * Element einzeln mit Überlaufprüfung berechnet.
+ * <p>
+ * Alle Ergebnisse stimmen elementweise mit {@link Bruch} überein. Zähler und Nenner bleiben betragsmäßig
+ * unter 2^62, so wie sie {@link BruchCodec} speichern kann; größere Ergebnisse (auch {@link Long#MIN_VALUE})
+ * werden mit einer {@link ArithmeticException} samt Index abgewiesen.
+ * <p>
+ * Die Arrays liegen auf dem Heap und nicht in einem direkten {@link java.nio.LongBuffer}: Die Laufzeit wird
+ * vom Kürzen bestimmt, und die Zählschleifen laufen über Arrays schneller als über einen Puffer (die
+ * Bereichsprüfung in {@code klein} etwa um das Zwei- bis Dreifache).
+ */
+public final class BruchSpalte {
+    private static final long INT_GRENZE = 1L << 31;
+    /** Ausschließliche Schranke für die Beträge von Zähler und Nenner. */
+    private static final long GRENZE = 1L << 62;
+
+    private final long[] zaehler;
+    private final long[] nenner;
+
+    /**
+     * {@summary Erzeugt eine Spalte der angegebenen Länge, gefüllt mit 0.}
+     *
+     * @param laenge Anzahl der Elemente
+     */
+    public BruchSpalte(int laenge) {
+        zaehler = new long[laenge];
+        nenner = new long[laenge];
+        Arrays.fill(nenner, 1);
+    }
+
+    private BruchSpalte(long[] zaehler, long[] nenner) {
+        this.zaehler = zaehler;
+        this.nenner = nenner;
+    }
+
+    /**
+     * {@summary Erzeugt eine Spalte aus einzelnen Brüchen.}
+     *
+     * @param werte Brüche mit Zähler und Nenner betragsmäßig unter 2^62
+     * @return neue Spalte mit denselben Werten
+     * @throws ArithmeticException wenn Zähler oder Nenner eines Werts betragsmäßig 2^62 erreichen
+     */
+    public static BruchSpalte of(Bruch... werte) {
+        BruchSpalte s = new BruchSpalte(werte.length);
+        for (int i = 0; i < werte.length; i++) s.set(i, werte[i]);
+        return s;
+    }
+
+    /**
+     * {@summary Übernimmt rohe Zähler/Nenner-Arrays und kürzt sie in einem Durchlauf.}
+     * Die Arrays werden nicht kopiert und danach von der Spalte verwaltet.
+     *
+     * @param zaehler Zähler
+     * @param nenner  Nenner, keiner darf 0 sein
+     * @return gekürzte Spalte
+     * @throws IllegalArgumentException bei unterschiedlichen Längen oder Nenner 0
+     */
+    public static BruchSpalte ausArrays(long[] zaehler, long[] nenner) {
+        if (zaehler.length != nenner.length) throw new IllegalArgumentException("Spalten unterschiedlich lang");
+        BruchSpalte s = new BruchSpalte(zaehler, nenner);
+        s.normalisiere();
+        return s;
+    }
+
+    /**
+     * {@summary Übernimmt bereits gekürzte Arrays ohne weiteren Durchlauf, z. B. beim Dekodieren.}
+     * Der Aufrufer garantiert gekürzte Werte mit positivem Nenner und höchstens 62 Bit.
+     */
+    static BruchSpalte roh(long[] zaehler, long[] nenner) {
+        return new BruchSpalte(zaehler, nenner);
+    }
+
+    /**
+     * {@summary Wandelt Messwerte in einem Durchlauf in ihre besten rationalen Näherungen um.}
+     * Schreibt direkt in die long-Arrays, ohne Bruch-Objekte oder Boxing; siehe {@link Bruch#naeherung}.
+     *
+     * @param werte     endliche Werte
+     * @param maxNenner größter erlaubter Nenner, mindestens 1
+     * @return Spalte mit {@code werte.length} Näherungen
+     * @throws IllegalArgumentException bei NaN, unendlichen Werten oder {@code maxNenner < 1}
+     * @throws ArithmeticException wenn Zähler oder Nenner einer Näherung betragsmäßig 2^62 erreichen
+     */
+    public static BruchSpalte ausDoubles(double[] werte, int maxNenner) {
+        if (maxNenner < 1) throw new IllegalArgumentException("Maximaler Nenner muss mindestens 1 sein");
+        BruchSpalte s = new BruchSpalte(new long[werte.length], new long[werte.length]);
+        long[] aus = new long[2];
+        for (int i = 0; i < werte.length; i++) {
+            double x = werte[i];
+            if (Naeherung.klein(x, maxNenner, aus)) {
+                s.zaehler[i] = aus[0];
+                s.nenner[i] = aus[1];
+            } else if (Double.isFinite(x)) {
+                s.set(i, Naeherung.gross(x, maxNenner));
+            } else {
+                throw new IllegalArgumentException("Keine endliche Zahl bei Index " + i + ": " + x);
+            }
+        }
+        return s;
+    }
+
+    /** @return Anzahl der Elemente */
+    public int laenge() {
+        return zaehler.length;
+    }
+
+    /**
+     * {@summary Liefert ein Element als Bruch.}
+     *
+     * @param i Index
+     * @return gekürzter Bruch an Position {@code i}
+     */
+    public Bruch get(int i) {
+        return Bruch.ausGekuerzt(zaehler[i], nenner[i]);
+    }
+
+    /** @return gekürzter Zähler an Position {@code i} */
+    public long zaehler(int i) {
+        return zaehler[i];
+    }
+
+    /** @return gekürzter, positiver Nenner an Position {@code i} */
+    public long nenner(int i) {
+        return nenner[i];
+    }
+
+    /**
+     * {@summary Setzt ein Element.}
+     *
+     * @param i Index
+     * @param b neuer Wert
+     * @throws ArithmeticException wenn Zähler oder Nenner von {@code b} betragsmäßig 2^62 erreichen
+     */
+    public void set(int i, Bruch b) {
+        BigInteger z = b.bigZaehler();
+        BigInteger n = b.bigNenner();
+        if (z.abs().bitLength() > 62 || n.bitLength() > 62) throw ueberlauf(i);
+        zaehler[i] = z.longValue();
+        nenner[i] = n.longValue();
+    }
+
+    /**
+     * {@summary Kürzt alle Elemente und zieht das Vorzeichen in den Zähler.}
+     *
+     * @throws IllegalArgumentException wenn ein Nenner 0 ist
+     * @throws ArithmeticException wenn ein gekürzter Wert betragsmäßig 2^62 erreicht
+     */
+    public void normalisiere() {
+        long[] z = zaehler;
+        long[] n = nenner;
+        for (int i = 0; i < z.length; i++) {
+            long ni = n[i];
+            if (ni == 0) throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+            if (ni == Long.MIN_VALUE || z[i] == Long.MIN_VALUE) throw ueberlauf(i);
+            long g = Bruch.gcd(z[i], ni);
+            if (ni < 0) g = -g;
+            z[i] /= g;
+            n[i] = ni / g;
+            if (!passt(z[i]) || !passt(n[i])) throw ueberlauf(i);
+        }
+    }
+
+    /**
+     * {@summary Elementweise Summe.}
+     *
+     * @param b zweite Spalte gleicher Länge
+     * @return neue Spalte mit {@code this[i] + b[i]}
+     */
+    public BruchSpalte add(BruchSpalte b) {
+        return addiere(b, 1);
+    }
+
+    /**
+     * {@summary Elementweise Differenz.}
+     *
+     * @param b zweite Spalte gleicher Länge
+     * @return neue Spalte mit {@code this[i] - b[i]}
+     */
+    public BruchSpalte sub(BruchSpalte b) {
+        return addiere(b, -1);
+    }
+
+    /**
+     * {@summary Elementweises Produkt.}
+     *
+     * @param b zweite Spalte gleicher Länge
+     * @return neue Spalte mit {@code this[i] * b[i]}
+     */
+    public BruchSpalte mul(BruchSpalte b) {
+        int len = pruefeLaenge(b);
+        long[] rz = new long[len];
+        long[] rn = new long[len];
+        if (klein(this) && klein(b)) {
+            long[] az = zaehler, an = nenner, bz = b.zaehler, bn = b.nenner;
+            for (int i = 0; i < len; i++) {
+                rz[i] = az[i] * bz[i];
+                rn[i] = an[i] * bn[i];
+            }
+            return gekuerzt(rz, rn);
+        }
+        for (int i = 0; i < len; i++) {
+            mulExakt(zaehler[i], nenner[i], b.zaehler[i], b.nenner[i], rz, rn, i);
+        }
+        return new BruchSpalte(rz, rn);
+    }
+
+    /**
+     * {@summary Elementweiser Quotient.}
+     *
+     * @param b zweite Spalte gleicher Länge
+     * @return neue Spalte mit {@code this[i] / b[i]}
+     * @throws ArithmeticException wenn ein Element von {@code b} gleich 0 ist (Division durch 0)
+     */
+    public BruchSpalte div(BruchSpalte b) {
+        int len = pruefeLaenge(b);
+        for (int i = 0; i < len; i++) {
+            if (b.zaehler[i] == 0) {
+                BruchMetriken.divisionDurchNull();
+                throw new ArithmeticException("Division durch 0");
+            }
+        }
+        long[] rz = new long[len];
+        long[] rn = new long[len];
+        if (klein(this) && klein(b)) {
+            long[] az = zaehler, an = nenner, bz = b.zaehler, bn = b.nenner;
+            for (int i = 0; i < len; i++) {
+                rz[i] = az[i] * bn[i];
+                rn[i] = an[i] * bz[i];
+            }
+            return gekuerzt(rz, rn);
+        }
+        for (int i = 0; i < len; i++) {
+            long c = b.zaehler[i];
+            long d = b.nenner[i];
+            if (c < 0) mulExakt(zaehler[i], nenner[i], -d, -c, rz, rn, i);
+            else mulExakt(zaehler[i], nenner[i], d, c, rz, rn, i);
+        }
+        return new BruchSpalte(rz, rn);
+    }
+
+    /**
+     * {@summary Summe aller Elemente.}
+     *
+     * @return gekürzte Summe, 0 bei leerer Spalte
+     */
+    public Bruch summe() {
+        BruchAccumulator acc = new BruchAccumulator();
+        for (int i = 0; i < zaehler.length; i++) {
+            acc.addKlein(zaehler[i], nenner[i]);
+        }
+        return acc.toBruch();
+    }
+
+    /**
+     * {@summary Produkt aller Elemente.}
+     *
+     * @return gekürztes Produkt, 1 bei leerer Spalte
+     */
+    public Bruch produkt() {
+        BruchAccumulator acc = new BruchAccumulator(Bruch.of(1));
+        for (int i = 0; i < zaehler.length; i++) {
+            acc.mulKlein(zaehler[i], nenner[i]);
+        }
+        return acc.toBruch();
+    }
+
+    private BruchSpalte addiere(BruchSpalte b, long vorzeichen) {
+        int len = pruefeLaenge(b);
+        long[] rz = new long[len];
+        long[] rn = new long[len];
+        if (klein(this) && klein(b)) {
+            // |a·d|, |c·b| < 2^62: Summe passt ungekürzt in long
+            long[] az = zaehler, an = nenner, bz = b.zaehler, bn = b.nenner;
+            for (int i = 0; i < len; i++) {
+                rz[i] = az[i] * bn[i] + vorzeichen * bz[i] * an[i];
+                rn[i] = an[i] * bn[i];
+            }
+            return gekuerzt(rz, rn);
+        }
+        for (int i = 0; i < len; i++) {
+            long a = zaehler[i], n1 = nenner[i], c = vorzeichen * b.zaehler[i], d = b.nenner[i];
+            try {
+                long g = Bruch.gcd(n1, d);
+                long t = Math.addExact(Math.multiplyExact(a, d / g), Math.multiplyExact(c, n1 / g));
+                if (t == 0) {
+                    rn[i] = 1;
+                    continue;
+                }
+                long g2 = Bruch.gcd(t, g);
+                rz[i] = t / g2;
+                rn[i] = Math.multiplyExact(n1 / g, d / g2);
+                if (!passt(rz[i]) || !passt(rn[i])) throw ueberlauf(i);
+            } catch (ArithmeticException e) {
+                throw ueberlauf(i);
+            }
+        }
+        return new BruchSpalte(rz, rn);
+    }
+
+    private static void mulExakt(long a, long b, long c, long d, long[] rz, long[] rn, int i) {
+        if (a == 0 || c == 0) {
+            rz[i] = 0;
+            rn[i] = 1;
+            return;
+        }
+        try {
+            long g1 = Bruch.gcd(a, d);
+            long g2 = Bruch.gcd(c, b);
+            rz[i] = Math.multiplyExact(a / g1, c / g2);
+            rn[i] = Math.multiplyExact(b / g2, d / g1);
+            if (!passt(rz[i]) || !passt(rn[i])) throw ueberlauf(i);
+        } catch (ArithmeticException e) {
+            throw ueberlauf(i);
+        }
+    }
+
+    private static BruchSpalte gekuerzt(long[] rz, long[] rn) {
+        BruchSpalte s = new BruchSpalte(rz, rn);
+        s.normalisiere();
+        return s;
+    }
+
+    /**
+     * {@summary Prüft in einer vektorisierbaren Reduktion, ob alle Beträge kleiner als 2^31 sind.}
+     */
+    private static boolean klein(BruchSpalte s) {
+        long bits = 0;
+        long[] z = s.zaehler;
+        long[] n = s.nenner;
+        for (int i = 0; i < z.length; i++) {
+            bits |= Math.abs(z[i]) | n[i];
+        }
+        return bits >= 0 && bits < INT_GRENZE;
+    }
+
+    /** @return ob {@code v} betragsmäßig unter 2^62 liegt; schließt {@link Long#MIN_VALUE} mit ein */
+    private static boolean passt(long v) {
+        return v > -GRENZE && v < GRENZE;
+    }
+
+    private int pruefeLaenge(BruchSpalte b) {
+        if (b.zaehler.length != zaehler.length) throw new IllegalArgumentException("Spalten unterschiedlich lang");
+        return zaehler.length;
+    }
+
+    private static ArithmeticException ueberlauf(int i) {
+        return new ArithmeticException("Überlauf in Spalte bei Index " + i);
+    }
+}
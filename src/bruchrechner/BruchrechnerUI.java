@@ -0,0 +1,824 @@
+package bruchrechner;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DocumentFilter;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import javax.swing.event.ListSelectionEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.border.Border;
+import javax.swing.border.CompoundBorder;
+import javax.swing.border.LineBorder;
+
+/**
+ * {@summary Einfache Swing-Oberfläche zum Rechnen mit Brüchen (A op B).}
+ * Baut Eingabe, Operatorauswahl, Buttons und Ergebnisbereich auf und färbt das UI leicht rosa ein.
+ */
+public class BruchrechnerUI extends JPanel {
+    private JTextField aZ;
+    private JTextField aN;
+    private JTextField bZ;
+    private JTextField bN;
+    private JComboBox<String> op;
+    private JButton berechnen;
+    private JButton reset;
+    private JButton tauschen;
+    private JLabel ergBruch;
+    private JLabel ergGemischt;
+    private JLabel ergDezimal;
+    private JLabel fehler;
+    private JLabel headerLbl;
+    private JProgressBar aTrennstrichPB;
+    private JProgressBar bTrennstrichPB;
+    private JPanel BruchrechnerView;
+    private JPanel eingabePL;
+    private JPanel headerPL;
+    private JPanel fussPL;
+    private JPanel ergebnisPL;
+    private JProgressBar beschaeftigt;
+    private SwingWorker<Ausgabe, Void> laufend; // nur auf dem EDT lesen/schreiben
+    private long generation;
+
+    /**
+     * Eigener Rechen-Thread statt des gemeinsamen SwingWorker-Pools: Abgebrochene Aufgaben werden aus der
+     * Warteschlange entfernt, eine laufende bricht am nächsten {@link #pruefeAbbruch()} ab.
+     */
+    private static final ThreadPoolExecutor RECHNER = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "bruch-rechner");
+                t.setDaemon(true);
+                return t;
+            });
+
+    /** Wartezeit nach der letzten Eingabe, bevor live gerechnet wird. */
+    static final int LIVE_VERZOEGERUNG_MS = 150;
+    private final Timer live = new Timer(LIVE_VERZOEGERUNG_MS, e -> starteBerechnung(true));
+    private final LruCache<Rechenschluessel, Ausgabe> memo = new LruCache<>(512);
+    private final AtomicLong eingaben = new AtomicLong();
+    private final AtomicLong berechnungen = new AtomicLong();
+
+    /** Anzahl Rechnungen, die der Verlauf höchstens behält; ältere werden überschrieben. */
+    static final int VERLAUF_KAPAZITAET = 100_000;
+    private final VerlaufsModell verlauf = new VerlaufsModell(new VerlaufsPuffer(VERLAUF_KAPAZITAET));
+    private JList<String> verlaufListe;
+    private boolean verlaufWaechst; // nur auf dem EDT: Auswahländerungen stammen vom Einfügen, nicht vom Benutzer
+    private VerlaufsLog log; // optional, nur auf dem EDT setzen
+
+    private ArbeitsblattModell blatt;
+    private JScrollPane blattTabelle;
+    private JTextField blattEingabe;
+    private JLabel blattSumme;
+    private JLabel blattProdukt;
+    private JLabel blattFehler;
+
+    private static final Color BG      = new Color(0xFFF5F8);
+    private static final Color SURFACE = new Color(0xFFE8F0);
+    private static final Color ACCENT  = new Color(0xFF5C8A);
+    private static final Color TEXT    = new Color(0x292929);
+    private static final Color TEXT_MUTED = new Color(0x5E5E5E);
+    private static final Color ERROR   = new Color(0xB00020);
+    private static final Color ACCENT_DUNKEL = new Color(0xE24B79);
+    private static final Color SOFT_BG = new Color(0xFFF0F5);
+    private static final Color FELD_RAND = new Color(0xFFC2D3);
+    private static final Color BOX_RAND = new Color(0xFFD2E0);
+
+    // Rahmen sind zustandslos und werden von allen Komponenten geteilt statt je Komponente neu erzeugt
+    private static final Border FELD_RAHMEN = rahmen(FELD_RAND, 6, 8);
+    private static final Border AUSWAHL_RAHMEN = rahmen(FELD_RAND, 2, 6);
+    private static final Border BUTTON_RAHMEN = rahmen(ACCENT_DUNKEL, 8, 14);
+    private static final Border SOFT_BUTTON_RAHMEN = rahmen(FELD_RAND, 8, 14);
+    private static final Border BOX_RAHMEN = rahmen(BOX_RAND, 8, 8);
+
+    private boolean gezeichnet;
+
+    /**
+     * {@summary Initialisiert das UI, erzeugt alle Komponenten und verdrahtet Events.}
+     * Setzt Layout, Eingabefelder, Operatorauswahl, Buttons, Ergebnisbereich, Tastenkürzel und wendet das Farbthema an.
+     */
+    public BruchrechnerUI() {
+        setLayout(new BorderLayout(12, 12));
+        setBorder(new EmptyBorder(16, 16, 16, 16));
+
+        headerLbl = new JLabel("Bruchrechner");
+        headerLbl.setFont(headerLbl.getFont().deriveFont(Font.BOLD, 20f));
+        headerLbl.setHorizontalAlignment(SwingConstants.CENTER);
+        add(headerLbl, BorderLayout.NORTH);
+
+        // Reiter: Rechner (A op B) und Arbeitsblatt (viele Zeilen)
+        JPanel rechner = new JPanel(new BorderLayout(12, 12));
+        JPanel center = new JPanel(new GridBagLayout());
+        rechner.add(center, BorderLayout.CENTER);
+        JTabbedPane reiter = new JTabbedPane();
+        reiter.addTab("Rechner", rechner);
+        JPanel blattPL = baueArbeitsblatt();
+        reiter.addTab("Arbeitsblatt", blattPL);
+        // Die Tabelle des Arbeitsblatts entsteht erst beim ersten Öffnen des Reiters
+        reiter.addChangeListener(e -> {
+            if (reiter.getSelectedComponent() == blattPL) baueTabelle();
+        });
+        add(reiter, BorderLayout.CENTER);
+        GridBagConstraints base = new GridBagConstraints();
+        base.insets = new Insets(6, 6, 6, 6);
+
+        aZ = new JTextField(6);
+        aN = new JTextField(6);
+        bZ = new JTextField(6);
+        bN = new JTextField(6);
+        unifyFieldSizes(aZ, aN, bZ, bN);
+        onlyInteger(aZ); onlyInteger(aN); onlyInteger(bZ); onlyInteger(bN);
+
+        op = new JComboBox<>(Rechnung.OPERATOREN);
+        op.setFocusable(false);
+        op.addActionListener(e -> planeLiveBerechnung());
+        live.setRepeats(false);
+
+        // A-Block (mittig in Spalte 0)
+        addFrac(center, base, "A", aZ, aN);
+
+        // Operator mittig in Spalte 1
+        JLabel opLbl = new JLabel("Operator");
+        opLbl.setLabelFor(op);
+        opLbl.setForeground(TEXT_MUTED);
+        JPanel opBox = new JPanel(new BorderLayout());
+        stilBox(opBox);
+        opBox.add(opLbl, BorderLayout.NORTH);
+        opBox.add(op, BorderLayout.CENTER);
+
+        GridBagConstraints cop = new GridBagConstraints();
+        cop.gridx = 1;
+        cop.gridy = 0;
+        cop.insets = base.insets;
+        cop.anchor = GridBagConstraints.CENTER;
+        cop.fill = GridBagConstraints.NONE;
+        cop.weightx = 0;
+        center.add(opBox, cop);
+
+        // B-Block (mittig in Spalte 2)
+        addFrac(center, base, "B", bZ, bN);
+
+        // Buttons (zentriert, über alle 3 Spalten)
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.CENTER, 12, 0));
+        berechnen = new JButton("Berechnen");
+        berechnen.setMnemonic('B');
+        reset = new JButton("Reset");
+        reset.setMnemonic('R');
+        tauschen = new JButton("A ↔ B");
+        tauschen.setMnemonic('T');
+
+        // Optional: gleiche Button-Größe
+        Dimension btnMax = new Dimension(
+                Math.max(berechnen.getPreferredSize().width,
+                        Math.max(reset.getPreferredSize().width, tauschen.getPreferredSize().width)),
+                Math.max(berechnen.getPreferredSize().height,
+                        Math.max(reset.getPreferredSize().height, tauschen.getPreferredSize().height))
+        );
+        berechnen.setPreferredSize(btnMax);
+        reset.setPreferredSize(btnMax);
+        tauschen.setPreferredSize(btnMax);
+
+        buttons.add(berechnen);
+        buttons.add(tauschen);
+        buttons.add(reset);
+
+        GridBagConstraints cb = new GridBagConstraints();
+        cb.gridx = 0; cb.gridy = 2; cb.gridwidth = 3;
+        cb.insets = new Insets(10, 6, 6, 6);
+        cb.anchor = GridBagConstraints.CENTER;
+        cb.fill = GridBagConstraints.NONE;
+        center.add(buttons, cb);
+
+        // Ergebnis unten
+        JPanel result = new JPanel(new GridLayout(5, 1, 4, 4));
+        stilBox(result);
+        ergBruch = new JLabel("—");
+        ergBruch.setFont(ergBruch.getFont().deriveFont(Font.BOLD, 18f));
+        ergGemischt = new JLabel("");
+        ergDezimal = new JLabel("");
+        fehler = new JLabel("");
+        result.add(ergBruch);
+        result.add(ergGemischt);
+        result.add(ergDezimal);
+        result.add(fehler);
+        beschaeftigt = new JProgressBar();
+        beschaeftigt.setIndeterminate(true);
+        beschaeftigt.setVisible(false);
+        result.add(beschaeftigt);
+        rechner.add(result, BorderLayout.SOUTH);
+
+        // Verlauf rechts: feste Zellhöhe, damit die JList nur sichtbare Zeilen formatiert
+        verlaufListe = new JList<>(verlauf);
+        verlaufListe.setPrototypeCellValue(VerlaufsModell.PROTOTYP);
+        verlaufListe.setVisibleRowCount(10);
+        verlaufListe.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        verlaufListe.addListSelectionListener(this::onVerlaufGewaehlt);
+        JPanel verlaufPL = new JPanel(new BorderLayout());
+        stilBox(verlaufPL);
+        verlaufPL.add(new JScrollPane(verlaufListe), BorderLayout.CENTER);
+        add(verlaufPL, BorderLayout.EAST);
+
+        // Actions
+        berechnen.addActionListener(this::onBerechnen);
+        reset.addActionListener(e -> {
+            aZ.setText("");
+            aN.setText("");
+            bZ.setText("");
+            bN.setText("");
+            live.stop();
+            if (laufend != null) laufend.cancel(true);
+            generation++;
+            beschaeftigt.setVisible(false);
+            ergBruch.setText("—");
+            ergGemischt.setText("");
+            ergDezimal.setText("");
+            fehler.setText("");
+            aZ.requestFocusInWindow();
+        });
+        tauschen.addActionListener(e -> {
+            String z = aZ.getText();
+            String n = aN.getText();
+            aZ.setText(bZ.getText());
+            aN.setText(bN.getText());
+            bZ.setText(z);
+            bN.setText(n);
+        });
+
+        // Enter triggert Berechnen
+        getInputMap(WHEN_ANCESTOR_OF_FOCUSED_COMPONENT).put(KeyStroke.getKeyStroke("ENTER"), "calc");
+        getActionMap().put("calc", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) { onBerechnen(e); }
+        });
+
+        setTooltipsAndA11y();
+        setColorTheme();
+    }
+
+    /**
+     * {@summary Öffnet das Hauptfenster mit Nimbus-Look-and-Feel auf dem Event Dispatch Thread.}
+     * Liegt hier statt in {@link Main}, damit der Batch-Modus AWT/Swing gar nicht erst lädt.
+     * Die Startphasen meldet {@link Startzeit}.
+     */
+    public static void starte() {
+        try { UIManager.setLookAndFeel("javax.swing.plaf.nimbus.NimbusLookAndFeel"); } catch (Exception ignored) {}
+        Startzeit.marke("Look-and-Feel");
+
+        Path ordner = VerlaufsLog.standardOrdner();
+        VerlaufsLog log = ordner == null ? null : new VerlaufsLog(ordner);
+        if (log != null) Runtime.getRuntime().addShutdownHook(new Thread(log::close, "verlauf-log-schliessen"));
+
+        if (GraphicsEnvironment.isHeadless()) {
+            SwingUtilities.invokeLater(BruchrechnerUI::zeichneOhneAnzeige);
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            JFrame f = new JFrame("Bruchrechner");
+            f.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+            BruchrechnerUI ui = new BruchrechnerUI();
+            Startzeit.marke("Oberfläche gebaut");
+            if (log != null) ui.verbindeLog(log);
+            f.setContentPane(ui);
+            f.pack();
+            f.setLocationRelativeTo(null);
+            f.setVisible(true);
+            Startzeit.marke("Fenster sichtbar");
+        });
+    }
+
+    /**
+     * {@summary Baut und zeichnet die Oberfläche in ein Bild, wenn keine Anzeige vorhanden ist.}
+     * Dient dem Probestart für das CDS-Archiv und Startzeitmessungen auf Rechnern ohne Bildschirm;
+     * es werden dieselben Klassen geladen wie beim sichtbaren Start.
+     */
+    private static void zeichneOhneAnzeige() {
+        BruchrechnerUI ui = new BruchrechnerUI();
+        Startzeit.marke("Oberfläche gebaut");
+        ui.setSize(ui.getPreferredSize());
+        ui.validate();
+        BufferedImage bild = new BufferedImage(ui.getWidth(), ui.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = bild.createGraphics();
+        try {
+            ui.paint(g);
+        } finally {
+            g.dispose();
+        }
+        if (!Startzeit.BEENDEN) {
+            System.err.println("Keine Anzeige verfügbar, die Oberfläche kann nicht geöffnet werden.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * {@summary Schreibt künftige Rechnungen zusätzlich in das Log und lädt dessen Verlauf nach.}
+     * Die Wiederherstellung läuft im Hintergrund; das Fenster ist sofort bedienbar, ältere Einträge
+     * erscheinen, sobald sie gelesen sind.
+     * @param log geöffnetes Verlaufs-Log
+     */
+    void verbindeLog(VerlaufsLog log) {
+        this.log = log;
+        log.wiederherstellen(VERLAUF_KAPAZITAET)
+                .thenAccept(p -> SwingUtilities.invokeLater(() -> aendereVerlauf(() -> verlauf.voranstellen(p))));
+    }
+
+    /**
+     * {@summary Baut den Reiter "Arbeitsblatt": Tabelle mit laufender Summe und laufendem Produkt.}
+     * Werte werden unten eingegeben (mehrere durch Leerzeichen oder Semikolon getrennt) oder direkt in der
+     * Spalte "Wert" bearbeitet. Jede Änderung aktualisiert Summe und Produkt über den Segmentbaum des
+     * {@link ArbeitsblattModell}s auf dem EDT; die Dauer steht im Tooltip der Summe.
+     * Die JTable selbst baut erst {@link #baueTabelle()}; bis dahin hält ein Platzhalter mit ihrer
+     * Standardgröße (450 × 400) den Platz frei, damit das Fenster beim Start gleich groß bleibt.
+     * @return fertiges Panel
+     */
+    private JPanel baueArbeitsblatt() {
+        blattFehler = new JLabel("");
+        blattFehler.setForeground(ERROR);
+        blatt = new ArbeitsblattModell(blattFehler::setText);
+
+        JPanel platzhalter = new JPanel();
+        platzhalter.setPreferredSize(new Dimension(450, 400));
+        blattTabelle = new JScrollPane(platzhalter);
+
+        blattEingabe = new JTextField(16);
+        blattEingabe.setToolTipText("Brüche wie 3/4 oder -2, mehrere durch Leerzeichen oder ; getrennt");
+        blattEingabe.getAccessibleContext().setAccessibleName("Neue Zeilen");
+        blattEingabe.addActionListener(this::onZeilenHinzufuegen);
+        JButton hinzufuegen = new JButton("Hinzufügen");
+        hinzufuegen.addActionListener(this::onZeilenHinzufuegen);
+        JButton entfernen = new JButton("Letzte entfernen");
+        entfernen.addActionListener(e -> blatt.entferneLetzte());
+        JButton leeren = new JButton("Leeren");
+        leeren.addActionListener(e -> blatt.leeren());
+
+        JPanel eingabe = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+        eingabe.add(blattEingabe);
+        eingabe.add(hinzufuegen);
+        eingabe.add(entfernen);
+        eingabe.add(leeren);
+
+        blattSumme = new JLabel();
+        blattSumme.setFont(blattSumme.getFont().deriveFont(Font.BOLD));
+        blattProdukt = new JLabel();
+        blattProdukt.setForeground(TEXT_MUTED);
+        JPanel summen = new JPanel(new GridLayout(4, 1, 4, 4));
+        stilBox(summen);
+        summen.add(blattSumme);
+        summen.add(blattProdukt);
+        summen.add(eingabe);
+        summen.add(blattFehler);
+        blatt.addTableModelListener(e -> zeigeGesamt());
+        zeigeGesamt();
+
+        JPanel panel = new JPanel(new BorderLayout(8, 8));
+        panel.add(blattTabelle, BorderLayout.CENTER);
+        panel.add(summen, BorderLayout.SOUTH);
+        return panel;
+    }
+
+    /**
+     * {@summary Erzeugt beim ersten Aufruf die Tabelle des Arbeitsblatts und ersetzt den Platzhalter.}
+     */
+    private void baueTabelle() {
+        if (blattTabelle.getViewport().getView() instanceof JTable) return;
+        JTable tabelle = new JTable(blatt);
+        tabelle.setFillsViewportHeight(true);
+        tabelle.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        tabelle.getColumnModel().getColumn(ArbeitsblattModell.SPALTE_ZEILE).setMaxWidth(70);
+        blattTabelle.setViewportView(tabelle);
+    }
+
+    /**
+     * {@summary Liest alle Werte aus dem Eingabefeld und hängt sie an; bei einem Fehler wird nichts übernommen.}
+     * @param e ActionEvent von Feld oder Button
+     */
+    private void onZeilenHinzufuegen(ActionEvent e) {
+        String text = blattEingabe.getText().trim();
+        if (text.isEmpty()) return;
+        List<Bruch> werte = new ArrayList<>();
+        try {
+            for (String teil : text.split("[\\s;]+")) werte.add(Bruch.parse(teil));
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            blattFehler.setText(Rechnung.fehlertext(ex));
+            return;
+        }
+        blattFehler.setText("");
+        blatt.hinzufuegen(werte);
+        blattEingabe.setText("");
+    }
+
+    /**
+     * {@summary Zeigt Summe und Produkt aller Zeilen (nur auf dem EDT aufrufen).}
+     * Zu große Werte erscheinen als Näherung mit "≈", siehe {@link BruchBaum}.
+     */
+    private void zeigeGesamt() {
+        blattSumme.setText("Summe: " + blatt.summe() + "   (" + blatt.getRowCount() + " Zeilen)");
+        blattProdukt.setText("Produkt: " + blatt.produkt());
+        blattSumme.setToolTipText(String.format("Letzte Neuberechnung: %.3f ms", blatt.letzteAenderungNanos() / 1e6));
+    }
+
+    /**
+     * {@summary Fügt einen Bruchblock (Zähler/Separator/Nenner) in das Grid ein.}
+     * Zentriert Beschriftung und Felder, begrenzt Feldgrößen und positioniert Block abhängig vom Label (A links, B rechts).
+     * @param parent Container, in den eingefügt wird
+     * @param c Basis-GridBagConstraints für Abstände
+     * @param label Kennzeichnung des Bruchs ("A" oder "B")
+     * @param z Textfeld für Zähler
+     * @param n Textfeld für Nenner
+     */
+    private void addFrac(JPanel parent, GridBagConstraints c, String label, JTextField z, JTextField n) {
+        JLabel head = new JLabel("Bruch " + label);
+        head.setHorizontalAlignment(SwingConstants.CENTER); // Überschrift auch mittig
+        head.setForeground(TEXT_MUTED);
+
+        JPanel fields = new JPanel();
+        fields.setLayout(new BoxLayout(fields, BoxLayout.Y_AXIS));
+        stilBox(fields);
+
+        // Textfelder nicht größer als preferred
+        z.setMaximumSize(z.getPreferredSize());
+        n.setMaximumSize(n.getPreferredSize());
+
+        // numerisch hübscher: zentrierte Felder
+        z.setAlignmentX(Component.CENTER_ALIGNMENT);
+        n.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        fields.add(z);
+        fields.add(Box.createVerticalStrut(2));
+        JSeparator strich = new JSeparator();
+        strich.setForeground(ACCENT);
+        strich.setBackground(ACCENT);
+        strich.setPreferredSize(new Dimension(0, 2));
+        fields.add(strich);
+        fields.add(Box.createVerticalStrut(2));
+        fields.add(n);
+
+        JPanel container = new JPanel(new BorderLayout());
+        stilBox(container);
+        container.add(head, BorderLayout.NORTH);
+        container.add(fields, BorderLayout.CENTER);
+
+        GridBagConstraints cc = new GridBagConstraints();
+        cc.gridx = label.equals("A") ? 0 : 2;      // <- A links, B rechts; Mitte gehört dem Operator
+        cc.gridy = 0;
+        cc.insets = c.insets;
+        cc.anchor = GridBagConstraints.CENTER;     // <- wirklich mittig
+        cc.fill = GridBagConstraints.NONE;         // <- nicht dehnen
+        cc.weightx = 1;                            // <- Spalte bekommt Raum, Komponente bleibt mittig
+
+        parent.add(container, cc);
+    }
+
+    /**
+     * {@summary Liest beide Brüche, wendet den gewählten Operator an und zeigt das Ergebnis an.}
+     * Auf dem EDT werden nur die Feldinhalte gelesen; Parsen, Rechnen und Formatieren laufen in einem
+     * SwingWorker auf {@link #RECHNER}. Eine neue Berechnung bricht eine noch laufende ab, veröffentlicht wird
+     * nur die jüngste.
+     * @param e ActionEvent der auslösenden Komponente
+     */
+    private void onBerechnen(ActionEvent e) {
+        live.stop();
+        starteBerechnung(false);
+    }
+
+    /**
+     * {@summary Zählt eine Eingabe und startet den Entprell-Timer neu.}
+     * Erst wenn {@link #LIVE_VERZOEGERUNG_MS} lang keine weitere Änderung kommt, wird gerechnet.
+     */
+    private void planeLiveBerechnung() {
+        eingaben.incrementAndGet();
+        live.restart();
+    }
+
+    /**
+     * {@summary Startet die Berechnung im Hintergrund.}
+     * Im Live-Modus wird bei unvollständiger Eingabe nur das Ergebnis geleert, ohne Fehlermeldung; siehe
+     * {@link #unvollstaendig(String, String)}.
+     * @param liveModus {@code true}, wenn durch Tippen statt durch "Berechnen" ausgelöst
+     */
+    private void starteBerechnung(boolean liveModus) {
+        int operatorIndex = op.getSelectedIndex();
+        String az = aZ.getText();
+        String an = aN.getText();
+        String bz = bZ.getText();
+        String bn = bN.getText();
+        String operator = (String) op.getSelectedItem();
+
+        if (laufend != null) laufend.cancel(true);
+        long nummer = ++generation;
+        if (liveModus && (unvollstaendig(az, an) || unvollstaendig(bz, bn))) {
+            beschaeftigt.setVisible(false);
+            zeige(new Ausgabe("—", "", "", "", null, null));
+            return;
+        }
+        beschaeftigt.setVisible(true);
+        laufend = new SwingWorker<>() {
+            @Override
+            protected Ausgabe doInBackground() {
+                return berechne(az, an, bz, bn, operator);
+            }
+
+            @Override
+            protected void done() {
+                if (nummer != generation || isCancelled()) return;
+                beschaeftigt.setVisible(false);
+                try {
+                    Ausgabe a = get();
+                    zeige(a);
+                    if (!liveModus && a.ergebnis() != null) {
+                        long jetzt = System.currentTimeMillis();
+                        aendereVerlauf(() -> verlauf.hinzufuegen(a.rechnung().a(), operatorIndex, a.rechnung().b(), a.ergebnis(), jetzt));
+                        if (log != null) log.schreibe(a.rechnung().a(), operatorIndex, a.rechnung().b(), a.ergebnis(), jetzt);
+                    }
+                } catch (ExecutionException ex) {
+                    zeige(new Ausgabe("—", "", "", unerwartet(ex.getCause()), null, null));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RECHNER.purge(); // abgebrochene, noch nicht begonnene Berechnungen verwerfen
+        RECHNER.execute(laufend);
+    }
+
+    /**
+     * {@summary Ob ein Bruch gerade erst getippt wird: ein leeres Feld, nur ein Minus oder ein Nenner aus Nullen.}
+     * Solche Zwischenstände sind im Live-Modus kein Fehler; mit "Berechnen" wird der Fehler weiterhin gemeldet.
+     */
+    private static boolean unvollstaendig(String z, String n) {
+        String zs = z.trim();
+        String ns = n.trim();
+        return zs.isEmpty() || ns.isEmpty() || zs.equals("-") || ns.equals("-") || ns.matches("-?0+");
+    }
+
+    /**
+     * {@summary Bricht eine abgebrochene Hintergrundberechnung zwischen zwei Schritten ab.}
+     *
+     * @throws CancellationException wenn der Rechen-Thread unterbrochen wurde
+     */
+    private static void pruefeAbbruch() {
+        if (Thread.interrupted()) throw new CancellationException();
+    }
+
+    /**
+     * {@summary Meldung für einen Fehler, den {@link #berechne} nicht selbst abfängt.}
+     */
+    private static String unerwartet(Throwable ursache) {
+        if (ursache instanceof RuntimeException ex && ex.getMessage() != null) return Rechnung.fehlertext(ex);
+        return "Die Berechnung ist fehlgeschlagen.";
+    }
+
+    /**
+     * {@summary Fertig formatierter Inhalt des Ergebnisbereichs.}
+     * {@code rechnung} und {@code ergebnis} sind nur bei Erfolg gesetzt und speisen den Verlauf.
+     */
+    private record Ausgabe(String bruch, String gemischt, String dezimal, String fehler, Rechenschluessel rechnung, Bruch ergebnis) {}
+
+    /**
+     * {@summary Schlüssel des Ergebnis-Memos: beide gekürzten Operanden und der Operator.}
+     */
+    private record Rechenschluessel(Bruch a, String operator, Bruch b) {}
+
+    /**
+     * {@summary Rechnet "A op B" aus den Feldtexten; läuft außerhalb des EDT und fasst keine Komponenten an.}
+     * Gleiche Rechnungen werden aus dem LRU-Memo beantwortet, nur Fehlgriffe zählen als Berechnung.
+     * @return Texte für Ergebnis- und Fehler-Label
+     */
+    private Ausgabe berechne(String az, String an, String bz, String bn, String operator) {
+        try {
+            Bruch A = read(az, an);
+            Bruch B = read(bz, bn);
+            pruefeAbbruch();
+            return memo.get(new Rechenschluessel(A, operator, B), k -> {
+                berechnungen.incrementAndGet();
+                try {
+                    Bruch res = Rechnung.rechne(k.a(), k.operator(), k.b());
+                    pruefeAbbruch();
+                    String bruch = "Als Bruch: " + res.toString();
+                    String gemischt = "Gemischt: " + res.toMixedString();
+                    pruefeAbbruch();
+                    return new Ausgabe(bruch, gemischt, "Dezimal: " + res.toDecimalString(), "", k, res);
+                } catch (IllegalArgumentException | ArithmeticException ex) {
+                    return new Ausgabe("—", "", "", Rechnung.fehlertext(ex), null, null);
+                }
+            });
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            return new Ausgabe("—", "", "", Rechnung.fehlertext(ex), null, null);
+        }
+    }
+
+    /**
+     * {@summary Lädt den gewählten Verlaufseintrag zurück in die Eingabefelder A und B.}
+     * Die Feldänderungen lösen wie beim Tippen eine Live-Berechnung aus. Verschiebt nur ein neuer Eintrag die
+     * Auswahl (die JList wandert mit dem gewählten Eintrag eine Zeile nach unten), wird nichts geladen.
+     * @param e Auswahlereignis der Verlaufsliste
+     */
+    private void onVerlaufGewaehlt(ListSelectionEvent e) {
+        int i = verlaufListe.getSelectedIndex();
+        if (e.getValueIsAdjusting() || i < 0 || verlaufWaechst) return;
+        VerlaufsPuffer p = verlauf.puffer();
+        Bruch a = p.a(i);
+        Bruch b = p.b(i);
+        aZ.setText(a.bigZaehler().toString());
+        aN.setText(a.bigNenner().toString());
+        bZ.setText(b.bigZaehler().toString());
+        bN.setText(b.bigNenner().toString());
+        op.setSelectedIndex(p.operator(i));
+    }
+
+    /**
+     * {@summary Ändert das Verlaufsmodell, ohne dass die dabei verschobene Auswahl einen Eintrag lädt.}
+     * Die JList passt ihre Auswahl synchron in den Modell-Ereignissen an, daher genügt ein Schalter.
+     */
+    private void aendereVerlauf(Runnable aenderung) {
+        verlaufWaechst = true;
+        try {
+            aenderung.run();
+        } finally {
+            verlaufWaechst = false;
+        }
+    }
+
+    /**
+     * {@summary Überträgt ein fertiges Ergebnis in die Labels (nur auf dem EDT aufrufen).}
+     * @param a anzuzeigende Texte
+     */
+    private void zeige(Ausgabe a) {
+        ergBruch.setText(a.bruch());
+        ergGemischt.setText(a.gemischt());
+        ergDezimal.setText(a.dezimal());
+        fehler.setText(a.fehler());
+        ergBruch.setToolTipText("Eingaben: " + eingaben.get() + ", Berechnungen: " + berechnungen.get()
+                + ", Memo-Treffer: " + memo.treffer());
+    }
+
+    /**
+     * {@summary Liest Zähler und Nenner aus zwei Feldtexten und erzeugt einen Bruch.}
+     * Wirft eine IllegalArgumentException bei leeren Feldern und NumberFormatException bei ungültigen Zahlen.
+     * @param z Text des Zählerfelds
+     * @param n Text des Nennerfelds
+     * @return neuer Bruch aus den gelesenen Werten
+     * @throws IllegalArgumentException wenn Zähler oder Nenner leer sind
+     * @throws NumberFormatException wenn keine ganzen Zahlen eingegeben wurden
+     */
+    private static Bruch read(String z, String n) {
+        String zs = z.trim();
+        String ns = n.trim();
+        if (zs.isEmpty() || ns.isEmpty()) {
+            throw new IllegalArgumentException("Zähler und Nenner bitte ausfüllen.");
+        }
+        int zl = Integer.parseInt(zs);
+        int nl = Integer.parseInt(ns);
+        return Bruch.valueOf(zl, nl);
+    }
+
+    /**
+     * {@summary Beschränkt ein Textfeld auf ganze Zahlen (optional mit Minus) und setzt zentrierte Darstellung.}
+     * Installiert einen DocumentFilter, Tooltip und Textausrichtung. Jede angenommene Änderung plant
+     * zusätzlich eine entprellte Live-Berechnung ein.
+     * @param tf das zu konfigurierende Textfeld
+     */
+    private void onlyInteger(JTextField tf) {
+        ((AbstractDocument) tf.getDocument()).setDocumentFilter(new DocumentFilter() {
+            @Override public void insertString(FilterBypass fb, int offset, String string, AttributeSet attr) throws BadLocationException {
+                if (accepts(string)) {
+                    super.insertString(fb, offset, string, attr);
+                    planeLiveBerechnung();
+                }
+            }
+            @Override public void replace(FilterBypass fb, int offset, int length, String text, AttributeSet attrs) throws BadLocationException {
+                if (accepts(text)) {
+                    super.replace(fb, offset, length, text, attrs);
+                    planeLiveBerechnung();
+                }
+            }
+            @Override public void remove(FilterBypass fb, int offset, int length) throws BadLocationException {
+                super.remove(fb, offset, length);
+                planeLiveBerechnung();
+            }
+            private boolean accepts(String s) {
+                if (s == null || s.isEmpty()) return true;
+                for (int i = 0; i < s.length(); i++) {
+                    char ch = s.charAt(i);
+                    if (!(Character.isDigit(ch) || ch == '-')) return false;
+                }
+                return true;
+            }
+        });
+        tf.setHorizontalAlignment(SwingConstants.CENTER);
+        tf.setToolTipText("Ganze Zahl, z. B. -3 oder 42");
+    }
+
+    /**
+     * {@summary Setzt Tooltips und Accessible-Namen für Eingabefelder und Buttons.}
+     * Verbessert Bedienbarkeit und Screenreader-Unterstützung.
+     */
+    private void setTooltipsAndA11y() {
+        aZ.getAccessibleContext().setAccessibleName("Zähler A");
+        aN.getAccessibleContext().setAccessibleName("Nenner A");
+        bZ.getAccessibleContext().setAccessibleName("Zähler B");
+        bN.getAccessibleContext().setAccessibleName("Nenner B");
+        op.setToolTipText("Rechenoperation auswählen");
+        berechnen.setToolTipText("Berechnet A [Operator] B");
+        reset.setToolTipText("Alle Felder löschen");
+        tauschen.setToolTipText("Tauscht A und B");
+    }
+
+    /**
+     * {@summary Vereinheitlicht die Preferred/Minimum/Maximum-Größe mehrerer Textfelder.}
+     * Sorgt dafür, dass alle Eingabefelder gleich groß wirken.
+     * @param fields die zu vereinheitlichenden Textfelder
+     */
+    private void unifyFieldSizes(JTextField... fields) {
+        Dimension max = new Dimension(0, 0);
+        for (JTextField f : fields) {
+            Dimension d = f.getPreferredSize();
+            if (d.width > max.width) max.width = d.width;
+            if (d.height > max.height) max.height = d.height;
+        }
+        for (JTextField f : fields) {
+            f.setPreferredSize(max);
+            f.setMinimumSize(max);
+            f.setMaximumSize(max);
+        }
+    }
+
+    /**
+     * {@summary Wendet das Farb-Theme auf Eingabefelder, Buttons und Ergebnistexte an.}
+     * Boxen, Überschriften und Trennstriche erhalten ihre Farben schon beim Erzeugen über {@link #stilBox};
+     * so muss der Komponentenbaum beim Start nicht noch einmal durchlaufen werden.
+     */
+    private void setColorTheme() {
+        // Grundfarben
+        setBackground(BG);
+        headerLbl.setForeground(ACCENT);
+
+        // Textfelder schlicht gleich stylen
+        for (JTextField f : new JTextField[]{aZ, aN, bZ, bN}) {
+            f.setOpaque(true);
+            f.setBackground(Color.WHITE);
+            f.setForeground(TEXT);
+            f.setCaretColor(ACCENT);
+            f.setBorder(FELD_RAHMEN);
+        }
+
+        // Operator-Combo und Buttons basic
+        op.setBackground(Color.WHITE);
+        op.setForeground(TEXT);
+        op.setBorder(AUSWAHL_RAHMEN);
+
+        berechnen.setBackground(ACCENT);
+        berechnen.setForeground(Color.WHITE);
+        berechnen.setOpaque(true);
+        berechnen.setBorder(BUTTON_RAHMEN);
+
+        for (JButton b : new JButton[]{reset, tauschen}) {
+            b.setBackground(SOFT_BG);
+            b.setForeground(ACCENT_DUNKEL);
+            b.setOpaque(true);
+            b.setBorder(SOFT_BUTTON_RAHMEN);
+        }
+
+        // Ergebnis-Texte
+        ergBruch.setForeground(TEXT);
+        ergGemischt.setForeground(TEXT_MUTED);
+        ergDezimal.setForeground(TEXT_MUTED);
+        fehler.setForeground(ERROR);
+        beschaeftigt.setForeground(ACCENT);
+    }
+
+    /**
+     * {@summary Färbt ein Panel als Box: Flächenfarbe und gemeinsamer Rahmen.}
+     * @param p Ergebnis-, Verlaufs-, Bruch- oder Operator-Box
+     */
+    private static void stilBox(JComponent p) {
+        p.setOpaque(true);
+        p.setBackground(SURFACE);
+        p.setBorder(BOX_RAHMEN);
+    }
+
+    private static Border rahmen(Color linie, int oben, int seite) {
+        return new CompoundBorder(new LineBorder(linie, 1, true), new EmptyBorder(oben, seite, oben, seite));
+    }
+
+    /**
+     * {@summary Zeichnet die Oberfläche und meldet das erste Bild an {@link Startzeit}.}
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (!gezeichnet) {
+            gezeichnet = true;
+            Startzeit.erstesBild();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+
+/**
+ * {@summary Dezimalschreibweise eines Bruchs mit markierter Periode, z. B. 1/7 als {@code 0.(142857)}.}
+ * Die Vorperiode ist die höhere der beiden Potenzen von 2 und 5 im Nenner. Danach ist die Division
+ * rein periodisch: die Periode endet genau dann, wenn der Rest vom Anfang der Periode wiederkehrt
+ * (ihre Länge ist die Ordnung von 10 modulo des restlichen Nenners). Es genügt daher, diesen einen Rest
+ * zu merken; weder eine Tabelle der Reste noch eine Faktorisierung ist nötig, der Speicherbedarf ist
+ * unabhängig vom Nenner. Passen Vorperiode und Periode nicht in die Stellengrenze, werden die ersten Nachkommastellen
+ * gefolgt von {@code …} ausgegeben.
+ * <p>
+ * Beispiele: {@code 5/4 -> "1.25"}, {@code 1/6 -> "0.1(6)"}, {@code -22/7 -> "-3.(142857)"}, {@code 3 -> "3"}.
+ */
+public final class Dezimaldarstellung {
+    /** Standardgrenze für Nachkommastellen, einstellbar mit {@code -Dbruchrechner.dezimalstellen=n}. */
+    public static final int STANDARD_STELLEN = Math.max(1, Integer.getInteger("bruchrechner.dezimalstellen", 60));
+
+    private static final BigInteger FUENF = BigInteger.valueOf(5);
+
+    private Dezimaldarstellung() {}
+
+    /**
+     * {@summary Dezimaltext mit höchstens {@link #STANDARD_STELLEN} Nachkommastellen.}
+     *
+     * @param b Bruch
+     * @return Dezimaltext
+     */
+    public static String text(Bruch b) {
+        return text(b, STANDARD_STELLEN);
+    }
+
+    /**
+     * {@summary Dezimaltext mit höchstens {@code maxStellen} Nachkommastellen.}
+     *
+     * @param b          Bruch
+     * @param maxStellen Grenze für Vorperiode plus Periode, mindestens 1
+     * @return exakter Text mit Periode in Klammern oder abgeschnittener Text mit {@code …}
+     * @throws IllegalArgumentException wenn {@code maxStellen < 1}
+     */
+    public static String text(Bruch b, int maxStellen) {
+        if (maxStellen < 1) throw new IllegalArgumentException("Mindestens eine Nachkommastelle");
+        StringBuilder sb = new StringBuilder(24);
+        if (b.isGross()) gross(b.bigZaehler(), b.bigNenner(), maxStellen, sb);
+        else klein(b.getZaehler(), b.getNenner(), maxStellen, sb);
+        return sb.toString();
+    }
+
+    private static void klein(long z, long n, int maxStellen, StringBuilder sb) {
+        if (z < 0) sb.append('-');
+        long a = Math.abs(z);
+        sb.append(a / n);
+        long r = a % n;
+        if (r == 0) return;
+        long rest = n >>> Long.numberOfTrailingZeros(n);
+        int vor = Long.numberOfTrailingZeros(n);
+        int fuenfer = 0;
+        while (rest % 5 == 0) {
+            rest /= 5;
+            fuenfer++;
+        }
+        vor = Math.max(vor, fuenfer);
+        sb.append('.');
+        int anfang = sb.length();
+        int stellen = 0;
+        for (; stellen < vor && stellen < maxStellen; stellen++) {
+            long q = r * 10 / n;
+            r = r * 10 - q * n;
+            sb.append((char) ('0' + q));
+        }
+        if (rest == 1 || stellen == maxStellen) {
+            if (vor > maxStellen || rest != 1) sb.append('…');
+            return;
+        }
+        // Nach der Vorperiode kehrt der Rest nach genau einer Periode zurück
+        long start = r;
+        do {
+            long q = r * 10 / n;
+            r = r * 10 - q * n;
+            sb.append((char) ('0' + q));
+            stellen++;
+        } while (r != start && stellen < maxStellen);
+        if (r != start) {
+            sb.append('…');
+            return;
+        }
+        sb.insert(anfang + vor, '(').append(')');
+    }
+
+    private static void gross(BigInteger z, BigInteger n, int maxStellen, StringBuilder sb) {
+        if (z.signum() < 0) sb.append('-');
+        BigInteger[] qr = z.abs().divideAndRemainder(n);
+        sb.append(qr[0]);
+        BigInteger r = qr[1];
+        if (r.signum() == 0) return;
+        int vor = n.getLowestSetBit();
+        BigInteger rest = n.shiftRight(vor);
+        int fuenfer = 0;
+        while (true) {
+            BigInteger[] fr = rest.divideAndRemainder(FUENF);
+            if (fr[1].signum() != 0) break;
+            rest = fr[0];
+            fuenfer++;
+        }
+        vor = Math.max(vor, fuenfer);
+        boolean endlich = rest.equals(BigInteger.ONE);
+        sb.append('.');
+        int anfang = sb.length();
+        int stellen = 0;
+        for (; stellen < vor && stellen < maxStellen; stellen++) {
+            BigInteger[] ziffer = r.multiply(BigInteger.TEN).divideAndRemainder(n);
+            sb.append((char) ('0' + ziffer[0].intValue()));
+            r = ziffer[1];
+        }
+        if (endlich || stellen == maxStellen) {
+            if (vor > maxStellen || !endlich) sb.append('…');
+            return;
+        }
+        BigInteger start = r;
+        do {
+            BigInteger[] ziffer = r.multiply(BigInteger.TEN).divideAndRemainder(n);
+            sb.append((char) ('0' + ziffer[0].intValue()));
+            r = ziffer[1];
+            stellen++;
+        } while (!r.equals(start) && stellen < maxStellen);
+        if (!r.equals(start)) {
+            sb.append('…');
+            return;
+        }
+        sb.insert(anfang + vor, '(').append(')');
+    }
+}
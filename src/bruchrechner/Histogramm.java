@@ -0,0 +1,100 @@
+package bruchrechner;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@summary Nebenläufiges Histogramm nichtnegativer Werte mit logarithmisch-linearen Buckets (HDR-Stil).}
+ * Werte unter 8 haben je einen eigenen Bucket; darüber wird jede Zweierpotenz in 8 gleich breite Buckets
+ * geteilt. Der relative Fehler eines Quantils liegt damit unter 12,5 %, bei konstantem Speicher von
+ * {@value #BUCKETS} Zählern. Jeder Bucket ist ein {@link LongAdder}, parallele Aufrufe konkurrieren kaum.
+ */
+final class Histogramm {
+    private static final int UNTERTEILUNG_BITS = 3;
+    private static final int UNTERTEILUNG = 1 << UNTERTEILUNG_BITS;
+    /** Anzahl der Buckets für Werte bis {@code Long.MAX_VALUE}. */
+    static final int BUCKETS = UNTERTEILUNG + (63 - UNTERTEILUNG_BITS) * UNTERTEILUNG;
+
+    private final LongAdder[] zaehler = new LongAdder[BUCKETS];
+    private final LongAdder summe = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogramm() {
+        for (int i = 0; i < BUCKETS; i++) zaehler[i] = new LongAdder();
+    }
+
+    /**
+     * {@summary Erfasst einen Wert; negative Werte zählen als 0.}
+     */
+    void erfasse(long wert) {
+        if (wert < 0) wert = 0;
+        zaehler[bucket(wert)].increment();
+        summe.add(wert);
+        max.accumulate(wert);
+    }
+
+    /** @return Anzahl erfasster Werte */
+    long anzahl() {
+        long n = 0;
+        for (LongAdder z : zaehler) n += z.sum();
+        return n;
+    }
+
+    /** @return größter erfasster Wert */
+    long max() {
+        return max.get();
+    }
+
+    /** @return Mittelwert oder 0, wenn leer */
+    double mittel() {
+        long n = anzahl();
+        return n == 0 ? 0 : (double) summe.sum() / n;
+    }
+
+    /**
+     * {@summary Näherungsweises Quantil.}
+     *
+     * @param q Anteil zwischen 0 und 1, z. B. 0.99
+     * @return Obergrenze des Buckets, in dem das Quantil liegt (höchstens {@link #max()}), oder 0, wenn leer
+     */
+    long quantil(double q) {
+        long[] werte = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            werte[i] = zaehler[i].sum();
+            n += werte[i];
+        }
+        if (n == 0) return 0;
+        long ziel = Math.max(1, (long) Math.ceil(q * n));
+        long kumuliert = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            kumuliert += werte[i];
+            if (kumuliert >= ziel) return Math.min(obergrenze(i), max());
+        }
+        return max();
+    }
+
+    /**
+     * {@summary Setzt alle Zähler zurück.}
+     */
+    void reset() {
+        for (LongAdder z : zaehler) z.reset();
+        summe.reset();
+        max.reset();
+    }
+
+    static int bucket(long wert) {
+        if (wert < UNTERTEILUNG) return (int) wert;
+        int exponent = 63 - Long.numberOfLeadingZeros(wert);
+        int unter = (int) (wert >>> (exponent - UNTERTEILUNG_BITS)) & (UNTERTEILUNG - 1);
+        return UNTERTEILUNG + (exponent - UNTERTEILUNG_BITS) * UNTERTEILUNG + unter;
+    }
+
+    static long obergrenze(int bucket) {
+        if (bucket < UNTERTEILUNG) return bucket;
+        int exponent = (bucket - UNTERTEILUNG) / UNTERTEILUNG + UNTERTEILUNG_BITS;
+        long unter = (bucket - UNTERTEILUNG) % UNTERTEILUNG;
+        long breite = 1L << (exponent - UNTERTEILUNG_BITS);
+        return ((UNTERTEILUNG + unter + 1) * breite) - 1;
+    }
+}
@@ -0,0 +1,172 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@summary Lastgenerator für {@link BruchServer}: misst Durchsatz und Latenzquantile gegen localhost.}
+ * Jede Verbindung ist ein Thread, der bis zum Ende der Messdauer Anfragen mit zufälligen Rechnungen
+ * {@code a/b op c/d} schickt und erst nach der Antwort die nächste stellt (geschlossenes Modell). Mit
+ * {@code --batch n} gehen je Anfrage {@code n} Zeilen an {@code /batch}, sonst eine an {@code /rechne}.
+ * Ohne {@code --port} wird ein Server im selben Prozess auf einem freien Port gestartet. Als fehlgeschlagen
+ * zählt jede Anfrage ohne Status 200 und jede, deren Antwort eine Zeile {@code Fehler: …} enthält; gemessen
+ * wird also nur der Erfolgsfall.
+ * <p>
+ * Aufruf: {@code java -jar bruchrechner.jar --last [--port n] [--dauer s] [--verbindungen n] [--batch n]}
+ */
+public final class Lastgenerator {
+    private Lastgenerator() {}
+
+    /**
+     * {@summary Einstiegspunkt für {@code --last}; liefert den Exit-Code.}
+     *
+     * @param args Kommandozeilenargumente inklusive {@code --last}
+     * @return 0 bei Erfolg, 1 wenn Anfragen fehlschlugen, 2 bei falschen Argumenten
+     * @throws IOException wenn der eingebaute Server nicht starten kann
+     * @throws InterruptedException wenn die Messung unterbrochen wird
+     */
+    public static int starte(String[] args) throws IOException, InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+        int port = -1;
+        int dauer = 10;
+        int verbindungen = 8;
+        int batch = 0;
+        for (int i = 1; i < args.length; i++) {
+            if (i + 1 >= args.length) return nutzung();
+            try {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--dauer": dauer = Integer.parseInt(args[++i]); break;
+                    case "--verbindungen": verbindungen = Integer.parseInt(args[++i]); break;
+                    case "--batch": batch = Integer.parseInt(args[++i]); break;
+                    default: return nutzung();
+                }
+            } catch (NumberFormatException e) {
+                return nutzung();
+            }
+        }
+        if (port != -1 && (port < 1 || port > 65535)) return nutzung(); // -1: eingebauter Server
+        if (dauer < 1 || verbindungen < 1 || batch < 0) return nutzung();
+        BruchServer eigener = null;
+        if (port < 0) {
+            eigener = new BruchServer(0, Runtime.getRuntime().availableProcessors());
+            eigener.start();
+            port = eigener.port();
+            System.err.println("Eingebauter Server auf Port " + port + " (" + eigener.threadArt() + ")");
+        }
+        try {
+            Ergebnis e = miss(port, Duration.ofSeconds(dauer), verbindungen, batch);
+            System.out.println(e.bericht());
+            return e.fehler.sum() == 0 ? 0 : 1;
+        } finally {
+            if (eigener != null) eigener.close();
+        }
+    }
+
+    /**
+     * {@summary Führt eine Messung durch; eine kurze Aufwärmphase wird nicht mitgezählt.}
+     *
+     * @param port         Port des Servers auf localhost
+     * @param dauer        Messdauer
+     * @param verbindungen parallele Clients
+     * @param batch        Zeilen je Anfrage an {@code /batch}, 0 für einzelne Anfragen an {@code /rechne}
+     * @return Messwerte
+     * @throws InterruptedException wenn die Messung unterbrochen wird
+     */
+    static Ergebnis miss(int port, Duration dauer, int verbindungen, int batch) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(BruchServer.threadProAnfrage())
+                .build();
+        URI ziel = URI.create("http://localhost:" + port + (batch == 0 ? "/rechne" : "/batch"));
+        Ergebnis ergebnis = new Ergebnis(Math.max(batch, 1));
+        long aufwaermen = System.nanoTime() + Math.min(dauer.toNanos() / 5, 2_000_000_000L);
+        long ende = aufwaermen + dauer.toNanos();
+        Thread[] threads = new Thread[verbindungen];
+        for (int t = 0; t < verbindungen; t++) {
+            SplittableRandom zufall = new SplittableRandom(t);
+            threads[t] = new Thread(() -> {
+                StringBuilder sb = new StringBuilder();
+                long jetzt;
+                while ((jetzt = System.nanoTime()) < ende) {
+                    sb.setLength(0);
+                    for (int k = 0; k < Math.max(batch, 1); k++) zeile(zufall, sb).append('\n');
+                    HttpRequest anfrage = HttpRequest.newBuilder(ziel)
+                            .POST(HttpRequest.BodyPublishers.ofString(sb.toString(), StandardCharsets.UTF_8))
+                            .build();
+                    try {
+                        HttpResponse<String> antwort = client.send(anfrage,
+                                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                        if (jetzt < aufwaermen) continue;
+                        if (antwort.statusCode() != 200 || antwort.body().contains("Fehler:")) ergebnis.fehler.increment();
+                        else ergebnis.latenz.erfasse(System.nanoTime() - jetzt);
+                    } catch (IOException ex) {
+                        if (jetzt >= aufwaermen) ergebnis.fehler.increment();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }, "bruch-last-" + t);
+            threads[t].start();
+        }
+        for (Thread t : threads) t.join();
+        ergebnis.nanos = dauer.toNanos();
+        return ergebnis;
+    }
+
+    /** Zufällige Rechnung mit Zählern und Nennern bis 1000 und einem Operator aus {@link Rechnung#OPERATOREN}; nie durch 0. */
+    private static StringBuilder zeile(SplittableRandom r, StringBuilder sb) {
+        int operator = r.nextInt(Rechnung.OPERATOREN.length);
+        int c = r.nextInt(-999, 1000);
+        if (c == 0 && Rechnung.OPERATOREN[operator].equals("÷")) c = 1;
+        sb.append(r.nextInt(-999, 1000)).append('/').append(r.nextInt(1, 1000))
+                .append(' ').append(Rechnung.OPERATOREN[operator]).append(' ')
+                .append(c).append('/').append(r.nextInt(1, 1000));
+        return sb;
+    }
+
+    private static int nutzung() {
+        System.err.println("Aufruf: java -jar bruchrechner.jar --last [--port n] [--dauer s] [--verbindungen n] [--batch n]");
+        return 2;
+    }
+
+    /**
+     * {@summary Messwerte einer Last-Messung; Latenzen in Nanosekunden.}
+     */
+    static final class Ergebnis {
+        final Histogramm latenz = new Histogramm();
+        final LongAdder fehler = new LongAdder();
+        final int zeilenProAnfrage;
+        long nanos;
+
+        Ergebnis(int zeilenProAnfrage) {
+            this.zeilenProAnfrage = zeilenProAnfrage;
+        }
+
+        /** @return erfolgreiche Anfragen je Sekunde */
+        double anfragenProSekunde() {
+            return latenz.anzahl() / (nanos / 1e9);
+        }
+
+        String bericht() {
+            double proSekunde = anfragenProSekunde();
+            return String.format("%d Anfragen (%d Fehler) in %.1f s: %.0f Anfragen/s, %.0f Rechnungen/s%n"
+                            + "Latenz: p50 %s, p99 %s, p99.9 %s, max %s, Mittel %s",
+                    latenz.anzahl(), fehler.sum(), nanos / 1e9, proSekunde, proSekunde * zeilenProAnfrage,
+                    ms(latenz.quantil(0.5)), ms(latenz.quantil(0.99)), ms(latenz.quantil(0.999)),
+                    ms(latenz.max()), ms((long) latenz.mittel()));
+        }
+
+        private static String ms(long nanos) {
+            return String.format("%.3f ms", nanos / 1e6);
+        }
+    }
+}
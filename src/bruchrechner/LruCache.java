@@ -0,0 +1,78 @@
+package bruchrechner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@summary Kleiner threadsicherer LRU-Cache mit fester Kapazität.}
+ * Beim Überschreiten der Kapazität wird der am längsten nicht benutzte Eintrag verworfen.
+ *
+ * @param <K> Schlüsseltyp
+ * @param <V> Werttyp
+ */
+public final class LruCache<K, V> {
+    private final LinkedHashMap<K, V> eintraege;
+    private long treffer;
+    private long fehlgriffe;
+
+    /**
+     * {@summary Erzeugt einen leeren Cache.}
+     *
+     * @param kapazitaet maximale Anzahl an Einträgen
+     */
+    public LruCache(int kapazitaet) {
+        eintraege = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > kapazitaet;
+            }
+        };
+    }
+
+    /**
+     * {@summary Liefert den gespeicherten Wert oder berechnet und speichert ihn.}
+     * Die Berechnung läuft außerhalb der Sperre; wirft sie, wird nichts gespeichert.
+     *
+     * @param schluessel Schlüssel
+     * @param berechnung erzeugt den Wert bei einem Fehlgriff
+     * @return gespeicherter oder neu berechneter Wert
+     */
+    public V get(K schluessel, Function<? super K, ? extends V> berechnung) {
+        synchronized (this) {
+            V v = eintraege.get(schluessel);
+            if (v != null) {
+                treffer++;
+                return v;
+            }
+            fehlgriffe++;
+        }
+        V neu = berechnung.apply(schluessel);
+        synchronized (this) {
+            eintraege.put(schluessel, neu);
+        }
+        return neu;
+    }
+
+    /** @return aktuelle Anzahl an Einträgen */
+    public synchronized int groesse() {
+        return eintraege.size();
+    }
+
+    /** @return Anzahl der Aufrufe, die ohne Berechnung beantwortet wurden */
+    public synchronized long treffer() {
+        return treffer;
+    }
+
+    /** @return Anzahl der Aufrufe, die eine Berechnung ausgelöst haben */
+    public synchronized long fehlgriffe() {
+        return fehlgriffe;
+    }
+
+    /**
+     * {@summary Entfernt alle Einträge.}
+     */
+    public synchronized void leeren() {
+        eintraege.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package bruchrechner;
+
+public class Main {
+    public static void main(String[] args) throws Exception {
+        Startzeit.marke("main");
+        if (BruchMetriken.AKTIV) BruchMetriken.registriere();
+        if (args.length > 0 && args[0].equals("--batch")) {
+            System.exit(BatchRechner.starte(args));
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            System.exit(BruchServer.starte(args));
+        }
+        if (args.length > 0 && args[0].equals("--last")) {
+            System.exit(Lastgenerator.starte(args));
+        }
+        if (args.length > 0 && args[0].equals("--cds-archiv")) {
+            System.exit(Startzeit.cdsArchiv(args));
+        }
+        BruchrechnerUI.starte();
+    }
+}
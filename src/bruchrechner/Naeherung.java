@@ -0,0 +1,273 @@
+package bruchrechner;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@summary Umwandlung von double und Dezimaltext in Brüche.}
+ * Die beste rationale Näherung mit beschränktem Nenner entsteht aus der Kettenbruchentwicklung des
+ * exakten Binärwerts {@code m / 2^e} eines doubles: Konvergenten werden übernommen, solange der Nenner
+ * die Schranke nicht überschreitet; danach entscheidet der beste Nebennäherungsbruch (Semikonvergente)
+ * gegen die letzte Konvergente. Verglichen wird exakt über die Reste des euklidischen Algorithmus,
+ * denn für jede Konvergente {@code p/q} gilt {@code |q·N − p·D| = Rest}.
+ * <p>
+ * Solange Zähler und Nenner sicher in long passen, läuft alles ohne Objekte; sonst mit BigInteger.
+ */
+final class Naeherung {
+    /** Oberhalb dieser Grenze ist jeder double ganzzahlig. */
+    private static final double GANZZAHLIG = 0x1p53;
+    /** Zähler der Näherung bleiben unter dieser Grenze, damit sie in eine {@link BruchSpalte} passen. */
+    private static final double LONG_GRENZE = 0x1p61;
+    /** Höchstzahl an Dezimalstellen, deren Wert sicher in long passt. */
+    private static final int LONG_STELLEN = 18;
+    /** Größte erlaubte Zehnerpotenz, damit absurde Exponenten nicht riesige Zahlen erzeugen. */
+    private static final int MAX_SKALA = 10_000;
+    private static final long[] ZEHNER = new long[LONG_STELLEN + 1];
+
+    static {
+        ZEHNER[0] = 1;
+        for (int i = 1; i < ZEHNER.length; i++) ZEHNER[i] = ZEHNER[i - 1] * 10;
+    }
+
+    private Naeherung() {}
+
+    /**
+     * {@summary Beste Näherung im long-Pfad.}
+     * Schreibt gekürzten Zähler und positiven Nenner nach {@code aus[0]} und {@code aus[1]}.
+     *
+     * @param x         endlicher Wert
+     * @param maxNenner Schranke, mindestens 1
+     * @param aus       Ziel der Länge 2
+     * @return {@code false}, wenn der Wert nur im BigInteger-Pfad exakt behandelt werden kann
+     */
+    static boolean klein(double x, long maxNenner, long[] aus) {
+        double betrag = Math.abs(x);
+        if (betrag == 0) {
+            aus[0] = 0;
+            aus[1] = 1;
+            return true;
+        }
+        if (betrag >= GANZZAHLIG || betrag * maxNenner >= LONG_GRENZE) return false;
+        long bits = Double.doubleToRawLongBits(betrag);
+        int exponent = (int) (bits >>> 52);
+        long m = bits & ((1L << 52) - 1);
+        int e;
+        if (exponent == 0) {
+            e = 1074; // subnormal
+        } else {
+            m |= 1L << 52;
+            e = 1075 - exponent;
+        }
+        int tz = Math.min(Long.numberOfTrailingZeros(m), e);
+        m >>>= tz;
+        e -= tz;
+        long n;
+        long d;
+        long p0 = 0, q0 = 1, p1 = 1, q1 = 0;
+        if (e <= 62) {
+            n = m;
+            d = 1L << e;
+            if (d <= maxNenner) {
+                aus[0] = x < 0 ? -n : n;
+                aus[1] = d;
+                return true;
+            }
+        } else {
+            // 2^e passt nicht in long: die ersten beiden Teilnenner 0 und floor(2^e / m) bitweise bestimmen
+            if (maxNenner > 1L << 60) return false;
+            long a = m == 1 ? 1 : 0;
+            long r = m == 1 ? 0 : 1;
+            boolean riesig = false;
+            for (int i = 0; i < e; i++) {
+                if (a >= 1L << 61) {
+                    riesig = true;
+                    break;
+                }
+                r <<= 1;
+                a <<= 1;
+                if (r >= m) {
+                    r -= m;
+                    a++;
+                }
+            }
+            if (riesig || a > maxNenner) {
+                // nur 0/1 oder 1/maxNenner kommen infrage; 0 genügt, wenn x <= 1/(2·maxNenner), also (2·max − a)·m <= r
+                boolean nullGenuegt = riesig || a >= 2 * maxNenner || vergleiche(2 * maxNenner - a, m, r, 1) <= 0;
+                aus[0] = nullGenuegt ? 0 : x < 0 ? -1 : 1;
+                aus[1] = nullGenuegt ? 1 : maxNenner;
+                return true;
+            }
+            p0 = 0;
+            q0 = 1;
+            p1 = 1;
+            q1 = a;
+            n = m;
+            d = r;
+        }
+        while (true) {
+            long a = n / d;
+            if (q1 != 0 && a > (maxNenner - q0) / q1) break;
+            long q2 = q0 + a * q1;
+            long p2 = p0 + a * p1;
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            long r = n - a * d;
+            n = d;
+            d = r;
+        }
+        // Reste: |Fehler(p1/q1)| ~ d, |Fehler(p0/q0)| ~ n
+        long k = (maxNenner - q0) / q1;
+        long qs = q0 + k * q1;
+        long ps = p0 + k * p1;
+        // p1/q1 ist mindestens so gut wie ps/qs, wenn d/q1 <= (n - k·d)/qs, also d·qs <= (n - k·d)·q1
+        long rest = n - k * d;
+        boolean konvergente = vergleiche(d, qs, rest, q1) <= 0;
+        long pz = konvergente ? p1 : ps;
+        long qz = konvergente ? q1 : qs;
+        aus[0] = x < 0 ? -pz : pz;
+        aus[1] = qz;
+        return true;
+    }
+
+    /**
+     * {@summary Beste Näherung im BigInteger-Pfad für sehr große oder sehr kleine Beträge.}
+     */
+    static Bruch gross(double x, long maxNenner) {
+        BigDecimal exakt = new BigDecimal(Math.abs(x));
+        BigInteger n = exakt.unscaledValue();
+        BigInteger d = BigInteger.ONE;
+        if (exakt.scale() > 0) d = BigInteger.TEN.pow(exakt.scale());
+        else n = n.multiply(BigInteger.TEN.pow(-exakt.scale()));
+        BigInteger g = n.gcd(d);
+        n = n.divide(g);
+        d = d.divide(g);
+        BigInteger max = BigInteger.valueOf(maxNenner);
+        BigInteger pz;
+        BigInteger qz;
+        if (d.compareTo(max) <= 0) {
+            pz = n;
+            qz = d;
+        } else {
+            BigInteger p0 = BigInteger.ZERO, q0 = BigInteger.ONE, p1 = BigInteger.ONE, q1 = BigInteger.ZERO;
+            while (true) {
+                BigInteger[] qr = n.divideAndRemainder(d);
+                BigInteger a = qr[0];
+                BigInteger q2 = q0.add(a.multiply(q1));
+                if (q2.compareTo(max) > 0) break;
+                BigInteger p2 = p0.add(a.multiply(p1));
+                p0 = p1;
+                q0 = q1;
+                p1 = p2;
+                q1 = q2;
+                n = d;
+                d = qr[1];
+            }
+            BigInteger k = max.subtract(q0).divide(q1);
+            BigInteger qs = q0.add(k.multiply(q1));
+            BigInteger ps = p0.add(k.multiply(p1));
+            boolean konvergente = d.multiply(qs).compareTo(n.subtract(k.multiply(d)).multiply(q1)) <= 0;
+            pz = konvergente ? p1 : ps;
+            qz = konvergente ? q1 : qs;
+        }
+        return Bruch.of(x < 0 ? pz.negate() : pz, qz);
+    }
+
+    /**
+     * {@summary Liest eine Dezimalzahl exakt, z. B. {@code "-12.375"} oder {@code "1.5e-3"}.}
+     *
+     * @throws NumberFormatException bei ungültigem Format
+     */
+    static Bruch dezimal(CharSequence s) {
+        int start = 0;
+        int ende = s.length();
+        while (start < ende && s.charAt(start) <= ' ') start++;
+        while (ende > start && s.charAt(ende - 1) <= ' ') ende--;
+        int i = start;
+        boolean negativ = false;
+        if (i < ende && (s.charAt(i) == '-' || s.charAt(i) == '+')) negativ = s.charAt(i++) == '-';
+        long mantisse = 0;
+        int stellen = 0;      // signifikante Stellen in mantisse
+        int nachkomma = 0;
+        boolean ziffern = false;
+        boolean punkt = false;
+        for (; i < ende; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                ziffern = true;
+                if (stellen == 0 && c == '0') {
+                    if (punkt) nachkomma++;
+                    continue;
+                }
+                if (stellen == LONG_STELLEN) return dezimalGross(s, start, ende);
+                mantisse = mantisse * 10 + (c - '0');
+                stellen++;
+                if (punkt) nachkomma++;
+            } else if (c == '.' && !punkt) {
+                punkt = true;
+            } else {
+                break;
+            }
+        }
+        if (!ziffern) throw keineDezimalzahl(s, start, ende);
+        long exponent = 0;
+        if (i < ende) {
+            char c = s.charAt(i);
+            if (c != 'e' && c != 'E') throw keineDezimalzahl(s, start, ende);
+            i++;
+            boolean expNegativ = false;
+            if (i < ende && (s.charAt(i) == '-' || s.charAt(i) == '+')) expNegativ = s.charAt(i++) == '-';
+            if (i == ende) throw keineDezimalzahl(s, start, ende);
+            for (; i < ende; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') throw keineDezimalzahl(s, start, ende);
+                exponent = Math.min(exponent * 10 + (c - '0'), 1_000_000_000L);
+            }
+            if (expNegativ) exponent = -exponent;
+        }
+        long skala = nachkomma - exponent;
+        if (Math.abs(skala) > MAX_SKALA) {
+            throw new NumberFormatException("Exponent zu groß: \"" + s.subSequence(start, ende) + "\"");
+        }
+        if (negativ) mantisse = -mantisse;
+        if (mantisse == 0) return Bruch.ausGekuerzt(0, 1);
+        if (skala >= 0 && skala <= LONG_STELLEN) {
+            long d = ZEHNER[(int) skala];
+            long g = Bruch.gcd(mantisse, d);
+            return Bruch.ausGekuerzt(mantisse / g, d / g);
+        }
+        if (skala < 0 && -skala <= LONG_STELLEN && Math.abs(mantisse) <= Long.MAX_VALUE / ZEHNER[(int) -skala]) {
+            return Bruch.ausGekuerzt(mantisse * ZEHNER[(int) -skala], 1);
+        }
+        return dezimalGross(s, start, ende);
+    }
+
+    private static Bruch dezimalGross(CharSequence s, int start, int ende) {
+        BigDecimal wert;
+        try {
+            wert = new BigDecimal(s.subSequence(start, ende).toString());
+        } catch (NumberFormatException ex) {
+            throw keineDezimalzahl(s, start, ende);
+        }
+        if (Math.abs((long) wert.scale()) > MAX_SKALA + wert.precision()) {
+            throw new NumberFormatException("Exponent zu groß: \"" + s.subSequence(start, ende) + "\"");
+        }
+        if (wert.scale() <= 0) return Bruch.of(wert.toBigIntegerExact(), BigInteger.ONE);
+        return Bruch.of(wert.unscaledValue(), BigInteger.TEN.pow(wert.scale()));
+    }
+
+    private static NumberFormatException keineDezimalzahl(CharSequence s, int start, int ende) {
+        return new NumberFormatException("Keine Dezimalzahl: \"" + s.subSequence(start, ende) + "\"");
+    }
+
+    /**
+     * {@summary Vergleicht {@code a·b} mit {@code c·d} für nichtnegative long-Werte exakt in 128 Bit.}
+     */
+    private static int vergleiche(long a, long b, long c, long d) {
+        long hi1 = Math.multiplyHigh(a, b);
+        long hi2 = Math.multiplyHigh(c, d);
+        if (hi1 != hi2) return Long.compare(hi1, hi2);
+        return Long.compareUnsigned(a * b, c * d);
+    }
+}
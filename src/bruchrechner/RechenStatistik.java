@@ -0,0 +1,55 @@
+package bruchrechner;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@summary Zählt, wie oft die Rechenoperationen von {@link Bruch} welchen Pfad nehmen.}
+ * Schneller Pfad: beide Operanden im int-Bereich, Rechnung in long.
+ * Überlauf: Ergebnis des schnellen Pfads passt nicht mehr in int und wird als BigInteger gespeichert.
+ * Großer Pfad: mindestens ein Operand liegt bereits außerhalb des int-Bereichs.
+ * <p>
+ * Gezählt wird nur mit eingeschalteten {@link BruchMetriken} ({@code -Dbruchrechner.metriken=true}); sonst
+ * entfernt der JIT die Zählpunkte wie dort, und alle Zähler bleiben 0.
+ */
+public final class RechenStatistik {
+    private static final LongAdder SCHNELL = new LongAdder();
+    private static final LongAdder UEBERLAUF = new LongAdder();
+    private static final LongAdder GROSS = new LongAdder();
+
+    private RechenStatistik() {}
+
+    static void schnellerPfad() { if (BruchMetriken.AKTIV) SCHNELL.increment(); }
+    static void ueberlauf() { if (BruchMetriken.AKTIV) UEBERLAUF.increment(); }
+    static void grosserPfad() { if (BruchMetriken.AKTIV) GROSS.increment(); }
+
+    /** @return Anzahl der Operationen im schnellen int/long-Pfad */
+    public static long schnell() { return SCHNELL.sum(); }
+
+    /** @return Anzahl der Ergebnisse, die aus dem int-Bereich hinausgewachsen sind */
+    public static long ueberlaeufe() { return UEBERLAUF.sum(); }
+
+    /** @return Anzahl der Operationen im BigInteger-Pfad */
+    public static long gross() { return GROSS.sum(); }
+
+    /**
+     * {@summary Setzt alle Zähler auf 0.}
+     */
+    public static void reset() {
+        SCHNELL.reset();
+        UEBERLAUF.reset();
+        GROSS.reset();
+    }
+
+    /**
+     * {@summary Kurze Zusammenfassung inklusive Anteil des schnellen Pfads.}
+     *
+     * @return z. B. {@code "schnell=990 (99.0 %), ueberlauf=3, gross=10"}
+     */
+    public static String zusammenfassung() {
+        long s = schnell();
+        long g = gross();
+        long gesamt = s + g;
+        double anteil = gesamt == 0 ? 0 : 100.0 * s / gesamt;
+        return String.format("schnell=%d (%.1f %%), ueberlauf=%d, gross=%d", s, anteil, ueberlaeufe(), g);
+    }
+}
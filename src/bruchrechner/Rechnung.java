@@ -0,0 +1,44 @@
+package bruchrechner;
+
+/**
+ * {@summary Gemeinsame Rechenlogik für "A op B", unabhängig von Swing.}
+ * Wird von der Oberfläche und vom Batch-Modus verwendet, damit beide dieselben Operatoren
+ * und dieselben Fehlermeldungen liefern.
+ */
+public final class Rechnung {
+    /** Unterstützte Operatoren in der Reihenfolge der Auswahlbox. */
+    public static final String[] OPERATOREN = {"+", "-", "×", "÷"};
+
+    private Rechnung() {}
+
+    /**
+     * {@summary Wendet einen Operator auf zwei Brüche an.}
+     *
+     * @param a        linker Operand
+     * @param operator einer von {@link #OPERATOREN}
+     * @param b        rechter Operand
+     * @return Ergebnis von {@code a operator b}
+     * @throws IllegalArgumentException bei unbekanntem Operator
+     * @throws ArithmeticException bei Division durch 0
+     */
+    public static Bruch rechne(Bruch a, String operator, Bruch b) {
+        switch (operator) {
+            case "+": return a.add(b);
+            case "-": return a.sub(b);
+            case "×": return a.mul(b);
+            case "÷": return a.div(b);
+            default: throw new IllegalArgumentException("Unbekannter Operator: " + operator);
+        }
+    }
+
+    /**
+     * {@summary Text, den die Oberfläche für einen Fehler im Fehler-Label anzeigt.}
+     *
+     * @param ex beim Einlesen oder Rechnen aufgetretene Ausnahme
+     * @return Meldung für den Benutzer
+     */
+    public static String fehlertext(RuntimeException ex) {
+        if (ex instanceof NumberFormatException) return "Bitte ganze Zahlen eingeben. " + ex.getMessage();
+        return ex.getMessage();
+    }
+}
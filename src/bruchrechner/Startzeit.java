@@ -0,0 +1,147 @@
+package bruchrechner;
+
+import javax.swing.SwingUtilities;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@summary Startzeitbericht vom JVM-Start bis zum ersten gezeichneten Bild und Erzeugen eines AppCDS-Archivs.}
+ * Mit {@code -Dbruchrechner.startzeit=true} werden die Phasen des Starts (main, Look-and-Feel, Oberfläche
+ * gebaut, Fenster sichtbar, erstes Bild) auf stderr ausgegeben, jeweils in Millisekunden ab JVM-Start.
+ * {@code -Dbruchrechner.startzeit.beenden=true} beendet das Programm nach dem ersten Bild; so lassen sich
+ * Starts in einer Schleife messen. Ohne die Schalter kostet eine Marke nur eine Abfrage.
+ * <p>
+ * {@link #cdsArchiv(String[])} startet die Oberfläche einmal mit {@code -XX:ArchiveClassesAtExit} bis zum
+ * ersten Bild. Die dabei geladenen Klassen (Swing, Nimbus, Rechenkern) landen im Archiv und werden bei
+ * späteren Starts mit {@code -XX:SharedArchiveFile} eingeblendet statt aus dem JAR gelesen und geprüft.
+ */
+final class Startzeit {
+    /** Schalter für den Startzeitbericht. */
+    static final boolean AKTIV = Boolean.getBoolean("bruchrechner.startzeit");
+    /** Schalter: nach dem ersten Bild beenden. */
+    static final boolean BEENDEN = Boolean.getBoolean("bruchrechner.startzeit.beenden");
+    /** Archivdatei, wenn {@code --cds-archiv} ohne Pfad aufgerufen wird. */
+    static final String STANDARD_ARCHIV = "bruchrechner.jsa";
+
+    private static final long START_WAND = System.currentTimeMillis();
+    private static final long START_NANOS = System.nanoTime();
+    private static final List<String> PHASEN = new ArrayList<>();
+    private static final List<Long> ZEITEN = new ArrayList<>();
+
+    private Startzeit() {
+    }
+
+    /**
+     * {@summary Merkt sich das Ende einer Startphase.}
+     *
+     * @param phase Name für den Bericht
+     */
+    static void marke(String phase) {
+        if (!AKTIV) return;
+        long t = System.nanoTime();
+        synchronized (PHASEN) {
+            PHASEN.add(phase);
+            ZEITEN.add(t);
+        }
+    }
+
+    /**
+     * {@summary Meldet das erste gezeichnete Bild: gibt den Bericht aus und beendet auf Wunsch.}
+     * Wird einmal vom EDT aus {@link BruchrechnerUI#paint} aufgerufen.
+     */
+    static void erstesBild() {
+        marke("erstes Bild");
+        if (AKTIV) System.err.println(bericht());
+        if (BEENDEN) SwingUtilities.invokeLater(() -> System.exit(0));
+    }
+
+    /**
+     * {@summary Bericht der bisherigen Marken.}
+     * Der JVM-Start stammt aus der {@link RuntimeMXBean}; sie wird erst hier geladen und verfälscht die
+     * gemessenen Phasen daher nicht. Ein angegebenes Archiv gilt nur als geladen, wenn {@code java.vm.info}
+     * die Klassenfreigabe ("sharing") meldet; ein fehlendes oder unpassendes Archiv verwirft die JVM still.
+     *
+     * @return eine Zeile mit Millisekunden ab JVM-Start je Phase
+     */
+    static String bericht() {
+        RuntimeMXBean rt = ManagementFactory.getRuntimeMXBean();
+        long versatz = START_WAND - rt.getStartTime(); // JVM-Start bis zum Laden dieser Klasse
+        StringBuilder sb = new StringBuilder("Startzeit (ms ab JVM-Start):");
+        synchronized (PHASEN) {
+            for (int i = 0; i < PHASEN.size(); i++) {
+                long ms = versatz + (ZEITEN.get(i) - START_NANOS) / 1_000_000;
+                sb.append(i == 0 ? " " : " | ").append(PHASEN.get(i)).append(' ').append(ms);
+            }
+        }
+        String archiv = rt.getInputArguments().stream()
+                .filter(a -> a.startsWith("-XX:SharedArchiveFile="))
+                .map(a -> a.substring(a.indexOf('=') + 1))
+                .findFirst().orElse(null);
+        boolean geteilt = System.getProperty("java.vm.info", "").contains("sharing");
+        if (archiv == null) sb.append("  [ohne CDS-Archiv]");
+        else sb.append("  [CDS-Archiv ").append(archiv).append(geteilt ? "]" : " nicht geladen]");
+        return sb.toString();
+    }
+
+    /**
+     * {@summary Erzeugt ein AppCDS-Archiv über einen Probestart der Oberfläche.}
+     * Aufruf: {@code --cds-archiv [datei]}. Der Probestart läuft mit demselben Klassenpfad, denn ein Archiv
+     * passt nur zu dem Klassenpfad, mit dem es erzeugt wurde. Ohne Anzeige wird die Oberfläche unsichtbar
+     * gezeichnet, das Archiv lässt sich also auch auf einem Build-Rechner erzeugen. Verzeichnisse im
+     * Klassenpfad (etwa {@code target/classes}) lehnt die JVM beim Archivieren ab, daher wird ein solcher
+     * Klassenpfad schon vorab mit einer klaren Meldung abgewiesen.
+     *
+     * @param args Kommandozeile, {@code args[0]} ist {@code --cds-archiv}
+     * @return Exit-Code: 0 bei Erfolg, 1 wenn der Probestart fehlschlägt oder der Klassenpfad kein JAR ist,
+     *         2 bei falschen Argumenten
+     */
+    static int cdsArchiv(String[] args) {
+        if (args.length > 2) {
+            System.err.println("Aufruf: --cds-archiv [datei]");
+            return 2;
+        }
+        Path archiv = Path.of(args.length == 2 ? args[1] : STANDARD_ARCHIV).toAbsolutePath();
+        String klassenpfad = System.getProperty("java.class.path");
+        for (String eintrag : klassenpfad.split(File.pathSeparator)) {
+            if (!eintrag.endsWith(".jar") || Files.isDirectory(Path.of(eintrag))) {
+                System.err.println("Ein CDS-Archiv braucht einen Klassenpfad nur aus JAR-Dateien, gefunden: " + eintrag);
+                System.err.println("Aufruf: java -jar bruchrechner.jar --cds-archiv [datei]");
+                return 1;
+            }
+        }
+        List<String> befehl = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:ArchiveClassesAtExit=" + archiv,
+                // Warnungen über nicht archivierbare, zur Laufzeit erzeugte Klassen sind harmlos
+                "-Xlog:cds=error",
+                "-Dbruchrechner.startzeit=true",
+                "-Dbruchrechner.startzeit.beenden=true",
+                "-cp", klassenpfad,
+                Main.class.getName());
+        try {
+            Files.deleteIfExists(archiv); // ein altes Archiv darf keinen fehlgeschlagenen Probestart verdecken
+            int code = new ProcessBuilder(befehl).inheritIO().start().waitFor();
+            if (code != 0 || !Files.isRegularFile(archiv)) {
+                System.err.println("Probestart fehlgeschlagen (Exit-Code " + code + "), kein Archiv erzeugt.");
+                return 1;
+            }
+        } catch (IOException e) {
+            System.err.println("Probestart fehlgeschlagen: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+        System.out.println("CDS-Archiv geschrieben: " + archiv);
+        boolean jar = !klassenpfad.contains(File.pathSeparator);
+        System.out.println("Start damit: java -XX:SharedArchiveFile=" + archiv
+                + (jar ? " -jar " + klassenpfad : " -cp " + klassenpfad + " " + Main.class.getName()));
+        return 0;
+    }
+}
@@ -0,0 +1,340 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+
+/**
+ * {@summary Unveränderlicher Bruch, der erst gekürzt wird, wenn sein Wert gebraucht wird oder zu groß wird.}
+ * Für Rechenketten, bei denen nur das Endergebnis zählt: {@link #add}, {@link #sub}, {@link #mul} und
+ * {@link #div} multiplizieren nur aus und bilden keinen ggT. Gekürzt wird
+ * <ul>
+ *   <li>wenn ein Ergebnis nicht mehr sicher in {@code long} passt: dann werden zuerst die Operanden gekürzt,
+ *       erst wenn das nicht reicht, wird mit {@link BigInteger} weitergerechnet. Dort wird gekürzt, sobald
+ *       Zähler oder Nenner die Schranke überschreiten (anfangs {@value #START_BITS} Bit, nach jedem Kürzen
+ *       das Doppelte der gekürzten Bitlänge, damit große Werte nicht nach jeder Operation erneut gekürzt
+ *       werden),</li>
+ *   <li>beim Beobachten über {@link #toString()}, {@link #toMixedString()}, {@link #compareTo}, {@link #equals},
+ *       {@link #getZaehler()}, {@link #getNenner()} und die übrigen Abfragen,</li>
+ *   <li>auf Wunsch über {@link #kuerze()} bzw. {@link #toBruch()}.</li>
+ * </ul>
+ * Das gekürzte Ergebnis ist genau der {@link Bruch}, den dieselbe Kette mit sofortigem Kürzen liefert, und
+ * wird je Instanz nur einmal gebildet. Einstieg über {@link Bruch#ungekuerzt()}.
+ */
+public final class UngekuerzterBruch implements Comparable<UngekuerzterBruch> {
+    /** Bitlänge, ab der ein Wert im großen Pfad spätestens gekürzt wird. */
+    static final int START_BITS = 62;
+
+    private final long zaehler;            // bei grossZaehler != null ohne Bedeutung (0)
+    private final long nenner;             // > 0
+    private final BigInteger grossZaehler; // null, solange der Wert in long passt
+    private final BigInteger grossNenner;
+    private final int schranke;
+
+    // gekürzter Wert, erst bei Bedarf gebildet; Bruch ist unveränderlich, ein doppeltes Bilden ist harmlos
+    private Bruch gekuerzt;
+
+    private UngekuerzterBruch(long zaehler, long nenner, BigInteger grossZaehler, BigInteger grossNenner,
+                              int schranke, Bruch gekuerzt) {
+        this.zaehler = zaehler;
+        this.nenner = nenner;
+        this.grossZaehler = grossZaehler;
+        this.grossNenner = grossNenner;
+        this.schranke = schranke;
+        this.gekuerzt = gekuerzt;
+    }
+
+    /**
+     * {@summary Übernimmt einen (gekürzten) Bruch.}
+     *
+     * @param b Wert
+     * @return {@code b} als ungekürzter Bruch
+     */
+    public static UngekuerzterBruch von(Bruch b) {
+        if (!b.isGross()) return new UngekuerzterBruch(b.getZaehler(), b.getNenner(), null, null, START_BITS, b);
+        BigInteger z = b.bigZaehler();
+        BigInteger n = b.bigNenner();
+        if (z.bitLength() < 63 && n.bitLength() < 63) {
+            return new UngekuerzterBruch(z.longValue(), n.longValue(), null, null, START_BITS, b);
+        }
+        return new UngekuerzterBruch(0, 0, z, n, schranke(z, n), b);
+    }
+
+    /**
+     * {@summary Erzeugt {@code z/n} ohne zu kürzen; das Vorzeichen wird in den Zähler gezogen.}
+     *
+     * @param z Zähler
+     * @param n Nenner, darf nicht 0 sein
+     * @return {@code z/n}
+     * @throws IllegalArgumentException wenn {@code n == 0}
+     */
+    public static UngekuerzterBruch of(long z, long n) {
+        if (n == 0) throw new IllegalArgumentException("Nenner darf nicht 0 sein.");
+        if (n < 0) return gross(BigInteger.valueOf(z).negate(), BigInteger.valueOf(n).negate(), START_BITS);
+        return lang(z, n);
+    }
+
+    /**
+     * {@summary Addiert ohne zu kürzen.}
+     *
+     * @param b Summand
+     * @return {@code this + b}
+     */
+    public UngekuerzterBruch add(UngekuerzterBruch b) {
+        return addiere(b, false);
+    }
+
+    /**
+     * {@summary Subtrahiert ohne zu kürzen.}
+     *
+     * @param b Subtrahend
+     * @return {@code this - b}
+     */
+    public UngekuerzterBruch sub(UngekuerzterBruch b) {
+        return addiere(b, true);
+    }
+
+    /**
+     * {@summary Multipliziert ohne zu kürzen.}
+     *
+     * @param b Faktor
+     * @return {@code this * b}
+     */
+    public UngekuerzterBruch mul(UngekuerzterBruch b) {
+        if (grossZaehler == null && b.grossZaehler == null) {
+            UngekuerzterBruch p = mulLang(zaehler, nenner, b.zaehler, b.nenner);
+            if (p != null) return p;
+            UngekuerzterBruch x = kuerzeLang();
+            UngekuerzterBruch y = b.kuerzeLang();
+            p = mulLang(x.zaehler, x.nenner, y.zaehler, y.nenner);
+            if (p != null) return p;
+            return gross(x.bigZ().multiply(y.bigZ()), x.bigN().multiply(y.bigN()), START_BITS);
+        }
+        return gross(bigZ().multiply(b.bigZ()), bigN().multiply(b.bigN()), schranke(b));
+    }
+
+    /**
+     * {@summary Dividiert ohne zu kürzen.}
+     *
+     * @param b Divisor
+     * @return {@code this / b}
+     * @throws ArithmeticException wenn {@code b} 0 ist (Division durch 0)
+     */
+    public UngekuerzterBruch div(UngekuerzterBruch b) {
+        if (b.signum() == 0) {
+            BruchMetriken.divisionDurchNull();
+            throw new ArithmeticException("Division durch 0");
+        }
+        if (grossZaehler == null && b.grossZaehler == null) {
+            // a/b ÷ c/d = a/b × d/c, Vorzeichen des Kehrwerts in den Zähler ziehen
+            long v = Long.signum(b.zaehler);
+            UngekuerzterBruch p = mulLang(zaehler, nenner, v * b.nenner, v * b.zaehler);
+            if (p != null) return p;
+            UngekuerzterBruch x = kuerzeLang();
+            UngekuerzterBruch y = b.kuerzeLang();
+            p = mulLang(x.zaehler, x.nenner, v * y.nenner, v * y.zaehler);
+            if (p != null) return p;
+            return gross(x.bigZ().multiply(y.bigN()).multiply(BigInteger.valueOf(v)),
+                    x.bigN().multiply(y.bigZ().abs()), START_BITS);
+        }
+        BigInteger z = bigZ().multiply(b.bigN());
+        BigInteger n = bigN().multiply(b.bigZ());
+        if (n.signum() < 0) {
+            z = z.negate();
+            n = n.negate();
+        }
+        return gross(z, n, schranke(b));
+    }
+
+    /** @see #add(UngekuerzterBruch) */
+    public UngekuerzterBruch add(Bruch b) {
+        return add(von(b));
+    }
+
+    /** @see #sub(UngekuerzterBruch) */
+    public UngekuerzterBruch sub(Bruch b) {
+        return sub(von(b));
+    }
+
+    /** @see #mul(UngekuerzterBruch) */
+    public UngekuerzterBruch mul(Bruch b) {
+        return mul(von(b));
+    }
+
+    /** @see #div(UngekuerzterBruch) */
+    public UngekuerzterBruch div(Bruch b) {
+        return div(von(b));
+    }
+
+    /**
+     * {@summary Kürzt jetzt und liefert den gekürzten Wert in diesem Modus weiter.}
+     *
+     * @return gekürzter, gleichwertiger Bruch
+     */
+    public UngekuerzterBruch kuerze() {
+        return von(toBruch());
+    }
+
+    /**
+     * {@summary Gekürzter Wert als {@link Bruch}; wird beim ersten Aufruf gebildet und gemerkt.}
+     *
+     * @return gekürzter Bruch
+     */
+    public Bruch toBruch() {
+        Bruch b = gekuerzt;
+        if (b == null) {
+            if (grossZaehler != null) {
+                b = Bruch.of(grossZaehler, grossNenner);
+            } else {
+                long g = Bruch.gcd(zaehler, nenner);
+                b = Bruch.ausGekuerzt(zaehler / g, nenner / g);
+            }
+            gekuerzt = b;
+        }
+        return b;
+    }
+
+    /** @return gekürzter Zähler, siehe {@link Bruch#getZaehler()} */
+    public int getZaehler() {
+        return toBruch().getZaehler();
+    }
+
+    /** @return gekürzter Nenner, siehe {@link Bruch#getNenner()} */
+    public int getNenner() {
+        return toBruch().getNenner();
+    }
+
+    /** @return gekürzter Zähler beliebiger Größe */
+    public BigInteger bigZaehler() {
+        return toBruch().bigZaehler();
+    }
+
+    /** @return gekürzter Nenner beliebiger Größe */
+    public BigInteger bigNenner() {
+        return toBruch().bigNenner();
+    }
+
+    /** @return true, wenn der gekürzte Wert nicht mehr in int passt */
+    public boolean isGross() {
+        return toBruch().isGross();
+    }
+
+    /** @return Näherung als double, siehe {@link Bruch#doubleValue()} */
+    public double doubleValue() {
+        return toBruch().doubleValue();
+    }
+
+    /**
+     * {@summary Vorzeichen; braucht kein Kürzen.}
+     *
+     * @return -1, 0 oder 1
+     */
+    public int signum() {
+        return grossZaehler != null ? grossZaehler.signum() : Long.signum(zaehler);
+    }
+
+    @Override
+    public int compareTo(UngekuerzterBruch b) {
+        return toBruch().compareTo(b.toBruch());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof UngekuerzterBruch b && toBruch().equals(b.toBruch());
+    }
+
+    @Override
+    public int hashCode() {
+        return toBruch().hashCode();
+    }
+
+    /** @return gekürzter Wert als "z/n" bzw. ganze Zahl */
+    @Override
+    public String toString() {
+        return toBruch().toString();
+    }
+
+    /** @return gekürzter Wert als gemischte Zahl, siehe {@link Bruch#toMixedString()} */
+    public String toMixedString() {
+        return toBruch().toMixedString();
+    }
+
+    private UngekuerzterBruch addiere(UngekuerzterBruch b, boolean minus) {
+        if (grossZaehler == null && b.grossZaehler == null) {
+            UngekuerzterBruch s = addLang(zaehler, nenner, minus ? -b.zaehler : b.zaehler, b.nenner);
+            if (s != null) return s;
+            UngekuerzterBruch x = kuerzeLang();
+            UngekuerzterBruch y = b.kuerzeLang();
+            s = addLang(x.zaehler, x.nenner, minus ? -y.zaehler : y.zaehler, y.nenner);
+            if (s != null) return s;
+            BigInteger c = minus ? y.bigZ().negate() : y.bigZ();
+            return gross(x.bigZ().multiply(y.bigN()).add(c.multiply(x.bigN())), x.bigN().multiply(y.bigN()), START_BITS);
+        }
+        BigInteger c = minus ? b.bigZ().negate() : b.bigZ();
+        return gross(bigZ().multiply(b.bigN()).add(c.multiply(bigN())), bigN().multiply(b.bigN()), schranke(b));
+    }
+
+    /** a/b + c/d ohne ggT oder null, wenn das Ergebnis nicht sicher in long passt. */
+    private static UngekuerzterBruch addLang(long a, long b, long c, long d) {
+        if (b == d) {
+            // gleicher Nenner: nur die Zähler addieren, der Nenner wächst nicht
+            return bits(a) < 62 && bits(c) < 62 ? lang(a + c, b) : null;
+        }
+        if (bits(a) + bits(d) > 62 || bits(c) + bits(b) > 62 || bits(b) + bits(d) > 62) return null;
+        return lang(a * d + c * b, b * d);
+    }
+
+    /** a/b × c/d ohne ggT oder null, wenn das Ergebnis nicht sicher in long passt. */
+    private static UngekuerzterBruch mulLang(long a, long b, long c, long d) {
+        if (bits(a) + bits(c) > 62 || bits(b) + bits(d) > 62) return null;
+        return lang(a * c, b * d);
+    }
+
+    /** Bitlänge des Betrags; Produkte mit zusammen höchstens 62 Bit passen samt Summe sicher in long. */
+    private static int bits(long x) {
+        return 64 - Long.numberOfLeadingZeros(Math.abs(x));
+    }
+
+    /** Gekürzt im long-Pfad; nur für {@code grossZaehler == null}. */
+    private UngekuerzterBruch kuerzeLang() {
+        long g = Bruch.gcd(zaehler, nenner);
+        if (g == 1) return this;
+        return new UngekuerzterBruch(zaehler / g, nenner / g, null, null, START_BITS, gekuerzt);
+    }
+
+    /** Zähler und Nenner mit positivem Nenner; Long.MIN_VALUE wird gemieden, weil er sich nicht negieren lässt. */
+    private static UngekuerzterBruch lang(long z, long n) {
+        if (z == Long.MIN_VALUE) return gross(BigInteger.valueOf(z), BigInteger.valueOf(n), START_BITS);
+        return new UngekuerzterBruch(z, n, null, null, START_BITS, null);
+    }
+
+    /** Nenner positiv; kürzt, wenn die Schranke überschritten ist, und wechselt zurück in long, wenn möglich. */
+    private static UngekuerzterBruch gross(BigInteger z, BigInteger n, int schranke) {
+        Bruch gekuerzt = null;
+        if (z.bitLength() > schranke || n.bitLength() > schranke) {
+            gekuerzt = Bruch.of(z, n);
+            z = gekuerzt.bigZaehler();
+            n = gekuerzt.bigNenner();
+            schranke = schranke(z, n);
+        }
+        if (z.bitLength() < 63 && n.bitLength() < 63) {
+            return new UngekuerzterBruch(z.longValue(), n.longValue(), null, null, START_BITS, gekuerzt);
+        }
+        return new UngekuerzterBruch(0, 0, z, n, schranke, gekuerzt);
+    }
+
+    private static int schranke(BigInteger z, BigInteger n) {
+        return Math.max(START_BITS, 2 * Math.max(z.bitLength(), n.bitLength()));
+    }
+
+    private int schranke(UngekuerzterBruch b) {
+        return Math.max(schranke, b.schranke);
+    }
+
+    private BigInteger bigZ() {
+        return grossZaehler != null ? grossZaehler : BigInteger.valueOf(zaehler);
+    }
+
+    private BigInteger bigN() {
+        return grossNenner != null ? grossNenner : BigInteger.valueOf(nenner);
+    }
+}
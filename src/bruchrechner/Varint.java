@@ -0,0 +1,71 @@
+package bruchrechner;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@summary LEB128-Varints und ZigZag-Kodierung für kompakte Binärformate.}
+ * Je Byte werden 7 Bit Nutzdaten geschrieben, das höchste Bit zeigt an, ob ein weiteres Byte folgt.
+ * ZigZag bildet vorzeichenbehaftete Werte so ab, dass kleine Beträge kurze Varints ergeben.
+ */
+final class Varint {
+    /** Höchstzahl an Bytes eines long-Varints. */
+    static final int MAX_BYTES = 10;
+
+    private Varint() {}
+
+    /**
+     * {@summary Schreibt {@code v} als vorzeichenlosen Varint.}
+     */
+    static void schreibe(ByteBuffer buf, long v) {
+        while ((v & ~0x7FL) != 0) {
+            buf.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.put((byte) v);
+    }
+
+    /**
+     * {@summary Schreibt {@code v} ZigZag-kodiert als Varint.}
+     */
+    static void schreibeMitVorzeichen(ByteBuffer buf, long v) {
+        schreibe(buf, zigZag(v));
+    }
+
+    /**
+     * {@summary Liest einen vorzeichenlosen Varint ab der aktuellen Position.}
+     *
+     * @throws java.nio.BufferUnderflowException wenn der Puffer vorher endet
+     * @throws IllegalStateException             wenn der Varint länger als {@link #MAX_BYTES} ist
+     */
+    static long lese(ByteBuffer buf) {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buf.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+        throw new IllegalStateException("Varint zu lang");
+    }
+
+    /**
+     * {@summary Liest einen ZigZag-kodierten Varint.}
+     */
+    static long leseMitVorzeichen(ByteBuffer buf) {
+        return ausZigZag(lese(buf));
+    }
+
+    /** @return Anzahl Bytes, die {@link #schreibe} für {@code v} benötigt */
+    static int laenge(long v) {
+        return v == 0 ? 1 : (63 - Long.numberOfLeadingZeros(v)) / 7 + 1;
+    }
+
+    /** @return {@code v} ZigZag-kodiert: 0, -1, 1, -2, … → 0, 1, 2, 3, … */
+    static long zigZag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    /** @return Umkehrung von {@link #zigZag(long)} */
+    static long ausZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,448 @@
+package bruchrechner;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * {@summary Persistenter, nur anhängender Binärverlauf aller Rechnungen.}
+ * Jeder Datensatz besteht aus Länge (Varint), Nutzdaten und CRC32 der Nutzdaten. Die Nutzdaten enthalten
+ * Zeitstempel (Varint), Operator-Code (1 Byte) sowie linken Operanden, rechten Operanden und Ergebnis.
+ * Ein Bruch wird im Format von {@link BruchCodec} als Nenner (Varint) und Zähler (ZigZag-Varint) geschrieben;
+ * ein Nenner 0 kündigt Werte außerhalb von long an, die dann als Länge und Zweierkomplement-Bytes von Zähler
+ * und Nenner folgen.
+ * <p>
+ * Geschrieben wird über einen {@link FileChannel} mit Gruppen-Commit: Datensätze sammeln sich im Speicher,
+ * ein Hintergrund-Thread schreibt sie spätestens nach {@link #GRUPPEN_MS} Millisekunden gemeinsam und ruft
+ * nur einmal {@code force}. Ab {@link #SEGMENT_GROESSE} beginnt ein neues Segment; mehr als
+ * {@link #MAX_SEGMENTE} Segmente werden vom ältesten her gelöscht. Beim Öffnen wird ein abgerissenes Ende
+ * des letzten Segments (unvollständiger Datensatz oder falsche Prüfsumme) abgeschnitten.
+ * <p>
+ * Die Wiederherstellung liest die Segmente per Memory-Mapping und nur so weit zurück, wie der Zielpuffer
+ * Einträge aufnehmen kann. Alle Dateizugriffe laufen auf dem Hintergrund-Thread, der Aufrufer blockiert nie.
+ */
+public final class VerlaufsLog implements AutoCloseable {
+    /** Größe, ab der ein neues Segment begonnen wird. */
+    static final long SEGMENT_GROESSE = 64L << 20;
+    /** Höchstzahl aufbewahrter Segmente. */
+    static final int MAX_SEGMENTE = 16;
+    /** Sammelzeit eines Gruppen-Commits. */
+    static final int GRUPPEN_MS = 20;
+    /** Größte zulässige Nutzdatenlänge; längere Angaben gelten als beschädigt. */
+    static final int MAX_DATENSATZ = 1 << 20;
+    /** Blockgröße beim Prüfen des letzten Segments; fasst jeden gültigen Datensatz vollständig. */
+    private static final int PRUEF_BLOCK = 4 * MAX_DATENSATZ;
+
+    private static final String PRAEFIX = "verlauf-";
+    private static final String ENDUNG = ".log";
+
+    private final Path ordner;
+    private final ScheduledExecutorService schreiber;
+    private final Future<?> geoeffnet;
+
+    // Sammelpuffer, geschützt durch sperre
+    private final Object sperre = new Object();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer ausstehend = ByteBuffer.allocate(8192);
+    private ByteBuffer nutzlast = ByteBuffer.allocate(256);
+    private boolean geplant;
+
+    // Dateizustand, geschützt durch this
+    private ByteBuffer inArbeit = ByteBuffer.allocate(8192);
+    private FileChannel kanal;
+    private long segment;
+
+    private volatile IOException fehler;
+    private volatile boolean geschlossen; // nur unter sperre gesetzt
+
+    /**
+     * {@summary Öffnet (oder erzeugt) das Log im angegebenen Ordner im Hintergrund.}
+     *
+     * @param ordner Ordner der Segmentdateien, wird bei Bedarf angelegt
+     */
+    public VerlaufsLog(Path ordner) {
+        this.ordner = ordner;
+        this.schreiber = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "verlauf-log");
+            t.setDaemon(true);
+            return t;
+        });
+        this.geoeffnet = schreiber.submit(this::oeffne);
+    }
+
+    /**
+     * {@summary Standardordner des Verlaufs.}
+     * Über die System-Property {@code bruchrechner.verlauf} änderbar; ein leerer Wert schaltet das Log ab.
+     *
+     * @return Ordner oder {@code null}, wenn nicht gespeichert werden soll
+     */
+    public static Path standardOrdner() {
+        String p = System.getProperty("bruchrechner.verlauf");
+        if (p == null) return Path.of(System.getProperty("user.home"), ".bruchrechner", "verlauf");
+        return p.isBlank() ? null : Path.of(p);
+    }
+
+    /**
+     * {@summary Hängt eine Rechnung an; kehrt sofort zurück.}
+     * Der Datensatz wird mit dem nächsten Gruppen-Commit geschrieben. Nach einem Schreibfehler oder
+     * {@link #close()} werden weitere Aufrufe ignoriert, auch wenn sie gleichzeitig mit dem Schließen laufen.
+     */
+    public void schreibe(Bruch a, int operator, Bruch b, Bruch ergebnis, long zeitMs) {
+        if (fehler != null || geschlossen) return;
+        synchronized (sperre) {
+            if (geschlossen) return; // close() hat den Executor schon beendet oder beendet ihn gleich
+            while (true) {
+                try {
+                    nutzlast.clear();
+                    Varint.schreibe(nutzlast, zeitMs);
+                    nutzlast.put((byte) operator);
+                    BruchCodec.schreibe(nutzlast, a);
+                    BruchCodec.schreibe(nutzlast, b);
+                    BruchCodec.schreibe(nutzlast, ergebnis);
+                    break;
+                } catch (BufferOverflowException ex) {
+                    nutzlast = ByteBuffer.allocate(nutzlast.capacity() * 2);
+                }
+            }
+            nutzlast.flip();
+            int laenge = nutzlast.remaining();
+            if (ausstehend.remaining() < laenge + Varint.MAX_BYTES + 4) {
+                ausstehend = vergroessere(ausstehend, laenge + Varint.MAX_BYTES + 4);
+            }
+            crc.reset();
+            crc.update(nutzlast.duplicate());
+            Varint.schreibe(ausstehend, laenge);
+            ausstehend.put(nutzlast);
+            ausstehend.putInt((int) crc.getValue());
+            if (!geplant) {
+                geplant = true;
+                schreiber.schedule(this::spuele, GRUPPEN_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * {@summary Liest die jüngsten Einträge im Hintergrund in einen neuen Puffer.}
+     *
+     * @param kapazitaet Kapazität des Zielpuffers; ältere Einträge werden gar nicht erst dekodiert
+     * @return Future mit dem gefüllten Puffer (ältester Eintrag zuerst eingefügt)
+     */
+    public CompletableFuture<VerlaufsPuffer> wiederherstellen(int kapazitaet) {
+        CompletableFuture<VerlaufsPuffer> f = new CompletableFuture<>();
+        schreiber.execute(() -> {
+            try {
+                f.complete(lies(kapazitaet));
+            } catch (IOException | RuntimeException ex) {
+                f.completeExceptionally(ex);
+            }
+        });
+        return f;
+    }
+
+    /**
+     * {@summary Letzter Schreib- oder Öffnungsfehler.}
+     *
+     * @return Fehler oder {@code null}
+     */
+    public IOException fehler() {
+        return fehler;
+    }
+
+    /**
+     * {@summary Schreibt ausstehende Datensätze sofort und schließt das Log.}
+     * Darf auch aus einem Shutdown-Hook aufgerufen werden.
+     */
+    @Override
+    public void close() {
+        synchronized (sperre) {
+            if (geschlossen) return;
+            geschlossen = true;
+        }
+        try {
+            geoeffnet.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // Fehler ist bereits in fehler vermerkt
+        }
+        spuele();
+        schreiber.shutdown();
+        synchronized (this) {
+            try {
+                if (kanal != null) kanal.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * {@summary Legt den Ordner an, öffnet das letzte Segment und schneidet ein abgerissenes Ende ab.}
+     */
+    private synchronized void oeffne() {
+        try {
+            Files.createDirectories(ordner);
+            List<Path> segmente = segmente();
+            if (segmente.isEmpty()) {
+                segment = 1;
+                kanal = FileChannel.open(pfad(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                return;
+            }
+            Path letztes = segmente.get(segmente.size() - 1);
+            segment = nummer(letztes);
+            kanal = FileChannel.open(letztes, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long groesse = kanal.size();
+            long gueltig = gueltigesEnde(kanal, groesse);
+            if (gueltig < groesse) {
+                kanal.truncate(gueltig);
+                kanal.force(true);
+            }
+            kanal.position(gueltig);
+        } catch (IOException ex) {
+            melde(ex);
+        }
+    }
+
+    /**
+     * {@summary Prüft ein Segment blockweise über {@code read} und liefert das Ende des letzten gültigen Datensatzes.}
+     * Bewusst ohne Memory-Mapping: Solange eine Einblendung erreichbar ist, lässt sich die Datei unter
+     * Windows nicht kürzen, und freigegeben wird sie erst vom Garbage Collector.
+     */
+    private static long gueltigesEnde(FileChannel ch, long groesse) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate((int) Math.min(groesse, PRUEF_BLOCK));
+        long anfang = 0;
+        while (anfang < groesse) {
+            block.clear();
+            while (block.hasRemaining() && ch.read(block, anfang + block.position()) > 0) {
+                // bis der Block voll oder das Dateiende erreicht ist
+            }
+            block.flip();
+            long gueltig = durchlaufe(block, null);
+            // am Dateiende oder ohne Fortschritt: unvollständig bzw. beschädigt, ein voller Block fasst jeden Datensatz
+            if (anfang + block.limit() >= groesse || gueltig == 0) return anfang + gueltig;
+            anfang += gueltig; // abgeschnittenen Datensatz am Blockende im nächsten Block erneut lesen
+        }
+        return anfang;
+    }
+
+    /**
+     * {@summary Schreibt alle gesammelten Datensätze in einem Rutsch und synchronisiert einmal.}
+     */
+    private synchronized void spuele() {
+        synchronized (sperre) {
+            geplant = false;
+            if (ausstehend.position() == 0) return;
+            ByteBuffer t = ausstehend;
+            ausstehend = inArbeit;
+            inArbeit = t;
+            ausstehend.clear();
+        }
+        inArbeit.flip();
+        if (fehler != null || kanal == null) return;
+        try {
+            if (kanal.position() > 0 && kanal.position() + inArbeit.remaining() > SEGMENT_GROESSE) rotiere();
+            while (inArbeit.hasRemaining()) kanal.write(inArbeit);
+            kanal.force(false);
+        } catch (IOException ex) {
+            melde(ex);
+        }
+    }
+
+    /**
+     * {@summary Beginnt ein neues Segment und löscht überzählige alte.}
+     */
+    private void rotiere() throws IOException {
+        kanal.close();
+        segment++;
+        kanal = FileChannel.open(pfad(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        List<Path> segmente = segmente();
+        for (int i = 0; i < segmente.size() - MAX_SEGMENTE; i++) {
+            try {
+                Files.deleteIfExists(segmente.get(i));
+            } catch (IOException ex) {
+                // noch eingeblendet (Windows) oder gesperrt: beim nächsten Segmentwechsel erneut versuchen
+            }
+        }
+    }
+
+    /**
+     * {@summary Liest die jüngsten {@code kapazitaet} Datensätze aller Segmente.}
+     * Läuft vom neuesten Segment rückwärts und zählt dabei nur Längenpräfixe, bis genug Datensätze
+     * gefunden sind; danach werden überzählige alte Datensätze ebenso übersprungen und nur der Rest
+     * geprüft und dekodiert.
+     */
+    private synchronized VerlaufsPuffer lies(int kapazitaet) throws IOException {
+        VerlaufsPuffer ziel = new VerlaufsPuffer(kapazitaet);
+        if (!Files.isDirectory(ordner)) return ziel;
+        List<Path> segmente = segmente();
+        List<MappedByteBuffer> karten = new ArrayList<>();
+        long anzahl = 0;
+        for (int i = segmente.size() - 1; i >= 0 && anzahl < kapazitaet; i--) {
+            MappedByteBuffer m = karte(segmente.get(i));
+            if (m == null) continue;
+            karten.add(0, m);
+            anzahl += zaehle(m.duplicate(), Long.MAX_VALUE);
+        }
+        long ueberspringen = Math.max(0, anzahl - kapazitaet);
+        Dekodierer d = new Dekodierer(ziel);
+        for (MappedByteBuffer m : karten) {
+            ByteBuffer rest = m.duplicate();
+            ueberspringen -= zaehle(rest, ueberspringen);
+            if (ueberspringen > 0) continue;
+            durchlaufe(rest.slice(), d);
+        }
+        return ziel;
+    }
+
+    private MappedByteBuffer karte(Path p) throws IOException {
+        try (FileChannel ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            long groesse = Math.min(ch.size(), Integer.MAX_VALUE);
+            return groesse == 0 ? null : ch.map(FileChannel.MapMode.READ_ONLY, 0, groesse);
+        }
+    }
+
+    /**
+     * {@summary Überspringt bis zu {@code hoechstens} Datensätze anhand der Längenpräfixe, ohne Prüfsummen zu rechnen.}
+     * Die Position des Puffers steht danach hinter dem letzten übersprungenen Datensatz.
+     *
+     * @return Anzahl übersprungener Datensätze
+     */
+    private static long zaehle(ByteBuffer buf, long hoechstens) {
+        long n = 0;
+        int pos = buf.position();
+        try {
+            while (n < hoechstens && buf.hasRemaining()) {
+                long laenge = Varint.lese(buf);
+                if (laenge <= 0 || laenge > MAX_DATENSATZ || buf.remaining() < laenge + 4) break;
+                buf.position(buf.position() + (int) laenge + 4);
+                pos = buf.position();
+                n++;
+            }
+        } catch (BufferUnderflowException | IllegalStateException ex) {
+            // abgerissenes Ende
+        }
+        buf.position(pos);
+        return n;
+    }
+
+    /**
+     * {@summary Prüft Datensätze ab Pufferanfang und reicht gültige weiter.}
+     * Bricht beim ersten unvollständigen oder beschädigten Datensatz ab.
+     *
+     * @param buf        Segmentinhalt ab Position 0
+     * @param dekodierer Empfänger oder {@code null}, wenn nur geprüft wird
+     * @return Offset hinter dem letzten gültigen Datensatz
+     */
+    private static long durchlaufe(ByteBuffer buf, Dekodierer dekodierer) {
+        CRC32 pruefer = new CRC32();
+        int gueltig = 0;
+        try {
+            while (buf.hasRemaining()) {
+                long laenge = Varint.lese(buf);
+                if (laenge <= 0 || laenge > MAX_DATENSATZ || buf.remaining() < laenge + 4) break;
+                ByteBuffer daten = buf.slice(buf.position(), (int) laenge);
+                pruefer.reset();
+                pruefer.update(daten.duplicate());
+                buf.position(buf.position() + (int) laenge);
+                if (buf.getInt() != (int) pruefer.getValue()) break;
+                gueltig = buf.position();
+                if (dekodierer != null) dekodierer.dekodiere(daten);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException ex) {
+            // abgerissenes Ende oder unlesbarer Inhalt
+        }
+        return gueltig;
+    }
+
+    /**
+     * {@summary Dekodiert Nutzdaten in einen {@link VerlaufsPuffer}; kleine Werte ohne Objekte.}
+     */
+    private static final class Dekodierer {
+        private final VerlaufsPuffer ziel;
+        private final long[] z = new long[3];
+        private final long[] n = new long[3];
+        private final Bruch[] gross = new Bruch[3];
+
+        Dekodierer(VerlaufsPuffer ziel) {
+            this.ziel = ziel;
+        }
+
+        void dekodiere(ByteBuffer buf) {
+            long zeit = Varint.lese(buf);
+            int operator = buf.get() & 0xFF;
+            if (operator >= Rechnung.OPERATOREN.length) return;
+            boolean klein = true;
+            for (int i = 0; i < 3; i++) {
+                n[i] = Varint.lese(buf);
+                if (n[i] != 0) {
+                    z[i] = Varint.leseMitVorzeichen(buf);
+                    gross[i] = null;
+                } else {
+                    BigInteger bz = new BigInteger(BruchCodec.leseBytes(buf));
+                    BigInteger bn = new BigInteger(BruchCodec.leseBytes(buf));
+                    gross[i] = Bruch.of(bz, bn);
+                    klein = false;
+                }
+            }
+            if (klein) {
+                ziel.hinzufuegenRoh(z[0], n[0], operator, z[1], n[1], z[2], n[2], zeit);
+            } else {
+                ziel.hinzufuegen(bruch(0), operator, bruch(1), bruch(2), zeit);
+            }
+        }
+
+        private Bruch bruch(int i) {
+            return gross[i] != null ? gross[i] : Bruch.of(BigInteger.valueOf(z[i]), BigInteger.valueOf(n[i]));
+        }
+    }
+
+    private List<Path> segmente() throws IOException {
+        try (Stream<Path> s = Files.list(ordner)) {
+            return s.filter(p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(PRAEFIX) && name.endsWith(ENDUNG);
+            }).sorted().toList();
+        }
+    }
+
+    private Path pfad(long nummer) {
+        return ordner.resolve(String.format("%s%08d%s", PRAEFIX, nummer, ENDUNG));
+    }
+
+    private static long nummer(Path p) {
+        String name = p.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PRAEFIX.length(), name.length() - ENDUNG.length()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static ByteBuffer vergroessere(ByteBuffer alt, int mindestens) {
+        ByteBuffer neu = ByteBuffer.allocate(Math.max(alt.capacity() * 2, alt.position() + mindestens));
+        alt.flip();
+        neu.put(alt);
+        return neu;
+    }
+
+    private void melde(IOException ex) {
+        if (fehler == null) System.err.println("Verlauf wird nicht gespeichert: " + ex.getMessage());
+        fehler = ex;
+    }
+}
@@ -0,0 +1,81 @@
+package bruchrechner;
+
+import javax.swing.AbstractListModel;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@summary Virtualisiertes ListModel über einem {@link VerlaufsPuffer}.}
+ * Zeilen werden erst in {@link #getElementAt(int)} formatiert; zusammen mit fester Zellhöhe fragt die
+ * JList damit nur die gerade sichtbaren Einträge ab. Zeile 0 ist die neueste Rechnung.
+ * Nur auf dem EDT verwenden.
+ */
+final class VerlaufsModell extends AbstractListModel<String> {
+    private static final DateTimeFormatter UHRZEIT = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    /** Typischer breiter Eintrag; dient der JList als Prototyp für Zellbreite und -höhe. */
+    static final String PROTOTYP = "00:00:00   -999/999 ÷ -999/999 = -99999/99999";
+
+    private VerlaufsPuffer puffer;
+
+    /**
+     * {@summary Erzeugt das Modell über einem bestehenden Puffer.}
+     * @param puffer Datenquelle
+     */
+    VerlaufsModell(VerlaufsPuffer puffer) {
+        this.puffer = puffer;
+    }
+
+    /** @return der zugrunde liegende Puffer */
+    VerlaufsPuffer puffer() {
+        return puffer;
+    }
+
+    /**
+     * {@summary Speichert eine Rechnung und benachrichtigt die Listener.}
+     * Solange der Puffer wächst, wird oben eine Zeile eingefügt; ist er voll, verschieben sich alle Zeilen
+     * und die JList zeichnet lediglich den sichtbaren Ausschnitt neu.
+     */
+    void hinzufuegen(Bruch a, int operator, Bruch b, Bruch ergebnis, long zeitMs) {
+        int vorher = puffer.groesse();
+        puffer.hinzufuegen(a, operator, b, ergebnis, zeitMs);
+        if (puffer.groesse() > vorher) fireIntervalAdded(this, 0, 0);
+        else fireContentsChanged(this, 0, vorher - 1);
+    }
+
+    /**
+     * {@summary Stellt wiederhergestellte, ältere Einträge vor die bereits vorhandenen.}
+     * Die vorhandenen Einträge werden in {@code aelter} übernommen, der danach als neuer Puffer dient.
+     * @param aelter Puffer gleicher Kapazität mit den älteren Einträgen
+     */
+    void voranstellen(VerlaufsPuffer aelter) {
+        int vorher = puffer.groesse();
+        for (int i = vorher - 1; i >= 0; i--) aelter.uebernimm(puffer, i);
+        puffer = aelter;
+        int nachher = puffer.groesse();
+        if (nachher > vorher) fireIntervalAdded(this, vorher, nachher - 1);
+        if (vorher > 0) fireContentsChanged(this, 0, vorher - 1);
+    }
+
+    /**
+     * {@summary Leert den Verlauf.}
+     */
+    void leeren() {
+        int vorher = puffer.groesse();
+        puffer.leeren();
+        if (vorher > 0) fireIntervalRemoved(this, 0, vorher - 1);
+    }
+
+    @Override
+    public int getSize() {
+        return puffer.groesse();
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return UHRZEIT.format(Instant.ofEpochMilli(puffer.zeit(index))) + "   "
+                + puffer.a(index) + " " + Rechnung.OPERATOREN[puffer.operator(index)] + " " + puffer.b(index)
+                + " = " + puffer.ergebnis(index);
+    }
+}
@@ -0,0 +1,185 @@
+package bruchrechner;
+
+import java.math.BigInteger;
+
+/**
+ * {@summary Ringpuffer fester Kapazität für Rechnungen, gespeichert in primitiven Arrays statt als Objektliste.}
+ * Je Eintrag liegen Operanden, Operator-Code, Ergebnis und Zeitstempel in parallelen Arrays; ist der
+ * Puffer voll, überschreibt ein neuer Eintrag den ältesten. Der Speicherbedarf bleibt damit unabhängig
+ * von der Anzahl der Rechnungen konstant. Nur Werte, die nicht in long passen, werden in einem selten
+ * genutzten Nebenarray als {@link Bruch} abgelegt.
+ * <p>
+ * Index 0 ist immer der neueste Eintrag. Alle Methoden sind synchronisiert.
+ */
+public final class VerlaufsPuffer {
+    private final int kapazitaet;
+    private final long[] aZ;
+    private final long[] aN;
+    private final long[] bZ;
+    private final long[] bN;
+    private final long[] rZ;
+    private final long[] rN;
+    private final long[] zeit;
+    private final byte[] op;
+    private Bruch[][] gross;   // null, solange kein Wert außerhalb von long aufgetreten ist
+
+    private int naechster;     // physische Position des nächsten Eintrags
+    private int groesse;
+    private long gesamt;
+
+    /**
+     * {@summary Erzeugt einen leeren Puffer.}
+     *
+     * @param kapazitaet maximale Anzahl gespeicherter Einträge
+     */
+    public VerlaufsPuffer(int kapazitaet) {
+        if (kapazitaet <= 0) throw new IllegalArgumentException("Kapazität muss positiv sein");
+        this.kapazitaet = kapazitaet;
+        aZ = new long[kapazitaet];
+        aN = new long[kapazitaet];
+        bZ = new long[kapazitaet];
+        bN = new long[kapazitaet];
+        rZ = new long[kapazitaet];
+        rN = new long[kapazitaet];
+        zeit = new long[kapazitaet];
+        op = new byte[kapazitaet];
+    }
+
+    /**
+     * {@summary Speichert eine Rechnung als neuesten Eintrag.}
+     *
+     * @param a        linker Operand
+     * @param operator Index in {@link Rechnung#OPERATOREN}
+     * @param b        rechter Operand
+     * @param ergebnis Ergebnis
+     * @param zeitMs   Zeitpunkt in Millisekunden seit 1970
+     */
+    public synchronized void hinzufuegen(Bruch a, int operator, Bruch b, Bruch ergebnis, long zeitMs) {
+        if (passt(a) && passt(b) && passt(ergebnis)) {
+            hinzufuegenRoh(zaehler(a), nenner(a), operator, zaehler(b), nenner(b),
+                    zaehler(ergebnis), nenner(ergebnis), zeitMs);
+            return;
+        }
+        int i = naechster;
+        op[i] = (byte) operator;
+        zeit[i] = zeitMs;
+        if (gross == null) gross = new Bruch[kapazitaet][];
+        gross[i] = new Bruch[]{a, b, ergebnis};
+        aN[i] = 0; // Markierung: Werte stehen in gross[i]
+        weiter();
+    }
+
+    /**
+     * {@summary Speichert eine Rechnung aus bereits gekürzten long-Werten, ohne Objekte anzulegen.}
+     * Gedacht für das Einlesen großer Verläufe; Nenner müssen positiv sein.
+     */
+    synchronized void hinzufuegenRoh(long az, long an, int operator, long bz, long bn, long rz, long rn, long zeitMs) {
+        int i = naechster;
+        op[i] = (byte) operator;
+        zeit[i] = zeitMs;
+        aZ[i] = az;
+        aN[i] = an;
+        bZ[i] = bz;
+        bN[i] = bn;
+        rZ[i] = rz;
+        rN[i] = rn;
+        if (gross != null) gross[i] = null;
+        weiter();
+    }
+
+    /**
+     * {@summary Übernimmt den Eintrag {@code index} eines anderen Puffers als neuesten Eintrag.}
+     */
+    synchronized void uebernimm(VerlaufsPuffer quelle, int index) {
+        synchronized (quelle) {
+            int j = quelle.physisch(index);
+            if (quelle.aN[j] == 0) {
+                Bruch[] g = quelle.gross[j];
+                hinzufuegen(g[0], quelle.op[j], g[1], g[2], quelle.zeit[j]);
+            } else {
+                hinzufuegenRoh(quelle.aZ[j], quelle.aN[j], quelle.op[j], quelle.bZ[j], quelle.bN[j],
+                        quelle.rZ[j], quelle.rN[j], quelle.zeit[j]);
+            }
+        }
+    }
+
+    private void weiter() {
+        naechster = (naechster + 1) % kapazitaet;
+        if (groesse < kapazitaet) groesse++;
+        gesamt++;
+    }
+
+    /** @return Anzahl gespeicherter Einträge (höchstens die Kapazität) */
+    public synchronized int groesse() {
+        return groesse;
+    }
+
+    /** @return Anzahl aller jemals gespeicherten Rechnungen */
+    public synchronized long gesamt() {
+        return gesamt;
+    }
+
+    /** @return maximale Anzahl gespeicherter Einträge */
+    public int kapazitaet() {
+        return kapazitaet;
+    }
+
+    /** @return linker Operand des Eintrags {@code index} (0 = neuester) */
+    public synchronized Bruch a(int index) {
+        int i = physisch(index);
+        return aN[i] == 0 ? gross[i][0] : bruch(aZ[i], aN[i]);
+    }
+
+    /** @return rechter Operand des Eintrags {@code index} */
+    public synchronized Bruch b(int index) {
+        int i = physisch(index);
+        return aN[i] == 0 ? gross[i][1] : bruch(bZ[i], bN[i]);
+    }
+
+    /** @return Ergebnis des Eintrags {@code index} */
+    public synchronized Bruch ergebnis(int index) {
+        int i = physisch(index);
+        return aN[i] == 0 ? gross[i][2] : bruch(rZ[i], rN[i]);
+    }
+
+    /** @return Operator-Code (Index in {@link Rechnung#OPERATOREN}) des Eintrags {@code index} */
+    public synchronized int operator(int index) {
+        return op[physisch(index)];
+    }
+
+    /** @return Zeitstempel in Millisekunden des Eintrags {@code index} */
+    public synchronized long zeit(int index) {
+        return zeit[physisch(index)];
+    }
+
+    /**
+     * {@summary Entfernt alle Einträge; die Arrays bleiben für die Wiederverwendung erhalten.}
+     */
+    public synchronized void leeren() {
+        naechster = 0;
+        groesse = 0;
+        gross = null;
+    }
+
+    private int physisch(int index) {
+        if (index < 0 || index >= groesse) throw new IndexOutOfBoundsException("Index " + index + ", Größe " + groesse);
+        return Math.floorMod(naechster - 1 - index, kapazitaet);
+    }
+
+    private static boolean passt(Bruch b) {
+        return !b.isGross() || (b.bigZaehler().bitLength() < 64 && b.bigNenner().bitLength() < 64);
+    }
+
+    private static long zaehler(Bruch b) {
+        return b.isGross() ? b.bigZaehler().longValue() : b.getZaehler();
+    }
+
+    private static long nenner(Bruch b) {
+        return b.isGross() ? b.bigNenner().longValue() : b.getNenner();
+    }
+
+    private static Bruch bruch(long z, long n) {
+        if (Bruch.passtInInt(z) && Bruch.passtInInt(n)) return Bruch.valueOf((int) z, (int) n);
+        return Bruch.of(BigInteger.valueOf(z), BigInteger.valueOf(n));
+    }
+}